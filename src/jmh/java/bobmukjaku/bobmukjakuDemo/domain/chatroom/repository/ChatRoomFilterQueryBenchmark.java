@@ -0,0 +1,195 @@
+package bobmukjaku.bobmukjakuDemo.domain.chatroom.repository;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/*
+* 모집방 날짜/시간 필터 쿼리 비교 (100만 행)
+* - before: weekday(date), start_at 범위 / 복합 인덱스 없이 date + kind_of_food + current_num < total
+* - after: day_of_week + start_slot 인덱스 / (date, kind_of_food, current_num, total) 복합 인덱스
+* 시작 시 각 쿼리의 EXPLAIN 결과를 출력하고, 테이블이 100만 행이 아니면 다시 채움
+* 실행: BENCH_JDBC_URL=jdbc:mariadb://localhost:3306/bench BENCH_JDBC_USER=root BENCH_JDBC_PASSWORD=... ./gradlew jmh
+* */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChatRoomFilterQueryBenchmark {
+
+    private static final int ROWS = 1_000_000;
+    private static final String TABLE = "chatroom_filter_bench";
+    private static final String[] FOODS = {"한식", "중식", "일식", "양식", "분식"};
+    private static final LocalDate FIRST_DATE = LocalDate.parse("2023-09-01");
+
+    private static final int DAY_OF_WEEK = 3; // 수요일
+    private static final LocalTime BLOCK_START = LocalTime.parse("12:00");
+    private static final LocalDate MEETING_DATE = FIRST_DATE.plusDays(10);
+    private static final String KIND_OF_FOOD = "한식";
+
+    private static final String DAY_TIME_BEFORE = "select id from " + TABLE +
+            " where weekday(date) = ? and start_at between ? and ?";
+    private static final String DAY_TIME_AFTER = "select id from " + TABLE +
+            " where day_of_week = ? and start_slot between ? and ? and start_at between ? and ?";
+    private static final String DATE_FOOD_BEFORE = "select id from " + TABLE + " ignore index (idx_bench_date_food_seat)" +
+            " where date = ? and kind_of_food = ? and current_num < total";
+    private static final String DATE_FOOD_AFTER = "select id from " + TABLE +
+            " where date = ? and kind_of_food = ? and current_num < total";
+
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                env("BENCH_JDBC_URL", "jdbc:mariadb://localhost:3306/bench"),
+                env("BENCH_JDBC_USER", "root"),
+                env("BENCH_JDBC_PASSWORD", ""));
+        createTable();
+        seedIfNeeded();
+        explain("요일+시간 before", DAY_TIME_BEFORE, this::bindDayTimeBefore);
+        explain("요일+시간 after", DAY_TIME_AFTER, this::bindDayTimeAfter);
+        explain("날짜+음식+참여가능 before", DATE_FOOD_BEFORE, this::bindDateFood);
+        explain("날짜+음식+참여가능 after", DATE_FOOD_AFTER, this::bindDateFood);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public int dayOfWeekAndTimeBefore() throws SQLException {
+        return count(DAY_TIME_BEFORE, this::bindDayTimeBefore);
+    }
+
+    @Benchmark
+    public int dayOfWeekAndTimeAfter() throws SQLException {
+        return count(DAY_TIME_AFTER, this::bindDayTimeAfter);
+    }
+
+    @Benchmark
+    public int dateFoodAvailableBefore() throws SQLException {
+        return count(DATE_FOOD_BEFORE, this::bindDateFood);
+    }
+
+    @Benchmark
+    public int dateFoodAvailableAfter() throws SQLException {
+        return count(DATE_FOOD_AFTER, this::bindDateFood);
+    }
+
+    private void bindDayTimeBefore(PreparedStatement statement) throws SQLException {
+        statement.setInt(1, DAY_OF_WEEK - 1); // weekday: 월=0
+        statement.setTime(2, Time.valueOf(BLOCK_START));
+        statement.setTime(3, Time.valueOf(BLOCK_START.plusMinutes(30)));
+    }
+
+    private void bindDayTimeAfter(PreparedStatement statement) throws SQLException {
+        statement.setInt(1, DAY_OF_WEEK);
+        statement.setInt(2, slotOfDay(BLOCK_START));
+        statement.setInt(3, slotOfDay(BLOCK_START.plusMinutes(30)));
+        statement.setTime(4, Time.valueOf(BLOCK_START));
+        statement.setTime(5, Time.valueOf(BLOCK_START.plusMinutes(30)));
+    }
+
+    private void bindDateFood(PreparedStatement statement) throws SQLException {
+        statement.setDate(1, Date.valueOf(MEETING_DATE));
+        statement.setString(2, KIND_OF_FOOD);
+    }
+
+    private int count(String sql, Binder binder) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            binder.bind(statement);
+            int rows = 0;
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) rows++;
+            }
+            return rows;
+        }
+    }
+
+    private void explain(String name, String sql, Binder binder) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("explain " + sql)) {
+            binder.bind(statement);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    System.out.printf("[EXPLAIN %s] type=%s key=%s rows=%s extra=%s%n", name,
+                            resultSet.getString("type"), resultSet.getString("key"),
+                            resultSet.getString("rows"), resultSet.getString("Extra"));
+                }
+            }
+        }
+    }
+
+    private void createTable() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table if not exists " + TABLE + " (" +
+                    "id bigint auto_increment primary key, " +
+                    "date date, start_at time, kind_of_food varchar(20), total int not null, current_num int not null, " +
+                    "day_of_week int, start_slot int, time_slot int, " +
+                    "index idx_bench_date_food_seat (date, kind_of_food, current_num, total), " +
+                    "index idx_bench_day_slot (day_of_week, start_slot))");
+        }
+    }
+
+    private void seedIfNeeded() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select count(*) from " + TABLE)) {
+            resultSet.next();
+            if (resultSet.getLong(1) == ROWS) return;
+            statement.execute("truncate table " + TABLE); // 중간에 멈춘 적재분은 버리고 다시 채움
+        }
+
+        Random random = new Random(42);
+        connection.setAutoCommit(false);
+        try (PreparedStatement statement = connection.prepareStatement("insert into " + TABLE +
+                " (date, start_at, kind_of_food, total, current_num, day_of_week, start_slot, time_slot) values (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                LocalDate date = FIRST_DATE.plusDays(random.nextInt(180));
+                LocalTime startAt = LocalTime.of(10 + random.nextInt(12), random.nextInt(6) * 10);
+                int total = 2 + random.nextInt(7);
+                int dayOfWeek = date.getDayOfWeek().getValue();
+                statement.setDate(1, Date.valueOf(date));
+                statement.setTime(2, Time.valueOf(startAt));
+                statement.setString(3, FOODS[random.nextInt(FOODS.length)]);
+                statement.setInt(4, total);
+                statement.setInt(5, random.nextInt(total + 1));
+                statement.setInt(6, dayOfWeek);
+                statement.setInt(7, slotOfDay(startAt));
+                statement.setInt(8, (dayOfWeek - 1) * 48 + slotOfDay(startAt));
+                statement.addBatch();
+                if ((i + 1) % 5_000 == 0) {
+                    statement.executeBatch();
+                    connection.commit();
+                }
+            }
+            statement.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("analyze table " + TABLE);
+        }
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null ? defaultValue : value;
+    }
+
+    private static int slotOfDay(LocalTime time) {
+        return time.getHour() * 2 + time.getMinute() / 30;
+    }
+
+    @FunctionalInterface
+    private interface Binder {
+        void bind(PreparedStatement statement) throws SQLException;
+    }
+
+}
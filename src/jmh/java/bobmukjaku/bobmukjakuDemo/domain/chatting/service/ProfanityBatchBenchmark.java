@@ -0,0 +1,95 @@
+package bobmukjaku.bobmukjakuDemo.domain.chatting.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+
+/*
+* 원격 욕설 판정 묶음 크기별 처리량/지연 비교 (batchSize 1 ~ 64)
+* - 로컬 스텁 서버: 요청마다 고정 지연(REQUEST_OVERHEAD_MICROS) + 메시지당 지연(PER_MESSAGE_MICROS), 요청 처리 스레드 8개
+* - throughput: 동시에 들어온 메시지 256개를 모두 판정하는 처리량 (메시지 단위)
+* - singleMessageLatency: 메시지 하나만 들어왔을 때 지연 (max-delay-ms 대기 포함)
+* 실행: ./gradlew jmh -Pjmh.includes=ProfanityBatchBenchmark
+* */
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProfanityBatchBenchmark {
+
+    private static final int CONCURRENT_MESSAGES = 256;
+    private static final long REQUEST_OVERHEAD_MICROS = 2_000; // 요청 파싱, 모델 호출 준비 등
+    private static final long PER_MESSAGE_MICROS = 50; // 메시지당 추론 시간
+    private static final long MAX_DELAY_MILLIS = 2;
+
+    @Param({"1", "2", "4", "8", "16", "32", "64"})
+    private int batchSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private HttpServer server;
+    private ProfanityBatcher batcher;
+    private List<String> messages;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        server.setExecutor(Executors.newFixedThreadPool(8));
+        server.createContext("/check_profanity_batch", exchange -> {
+            JsonNode batch = objectMapper.readTree(exchange.getRequestBody()).get("messages");
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(REQUEST_OVERHEAD_MICROS + PER_MESSAGE_MICROS * batch.size()));
+            StringBuilder body = new StringBuilder("{\"results\":[");
+            for (int i = 0; i < batch.size(); i++) body.append(i > 0 ? "," : "").append("{\"profanity\":false}");
+            byte[] response = body.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        });
+        server.start();
+
+        WebClient webClient = WebClient.create("http://localhost:" + server.getAddress().getPort());
+        batcher = new ProfanityBatcher(new ProfanityClient(webClient, "/check_profanity_batch"),
+                new SimpleMeterRegistry(), true, batchSize, MAX_DELAY_MILLIS);
+        messages = IntStream.range(0, CONCURRENT_MESSAGES).mapToObj(i -> "메시지 " + i).toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        batcher.stop();
+        server.stop(0);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(CONCURRENT_MESSAGES)
+    public List<Boolean> throughput() {
+        return Flux.fromIterable(messages)
+                .flatMap(batcher::check, CONCURRENT_MESSAGES)
+                .collectList()
+                .block();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Boolean singleMessageLatency() {
+        return batcher.check("안녕하세요").block();
+    }
+
+}
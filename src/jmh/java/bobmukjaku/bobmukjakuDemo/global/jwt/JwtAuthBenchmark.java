@@ -0,0 +1,68 @@
+package bobmukjaku.bobmukjakuDemo.global.jwt;
+
+import bobmukjaku.bobmukjakuDemo.global.jwt.service.JwtClaimsCache;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.JWTVerifier;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/*
+* JwtAuthenticationProcessingFilter의 요청당 토큰 처리 비용 비교 (DB, Redis 조회 제외)
+* - before: isTokenValid + extractUsername에서 매번 Algorithm, JWTVerifier 생성 후 두 번 검증
+* - verifierReused: 재사용하는 검증기로 한 번 검증 + claim 추출
+* - claimsCacheHit: 같은 토큰으로 반복되는 요청 (JwtClaimsCache 적중)
+* 실행: ./gradlew jmh
+* */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthBenchmark {
+
+    private static final String SECRET = "ZG9uZ2h1bi1zaGFycC1kYnJ1YS13ZWItcHJvamVjdC11c2luZy1qd3Qtc2VjcmV0";
+    private static final String USERNAME_CLAIM = "username";
+
+    private String accessToken;
+    private JWTVerifier verifier;
+    private JwtClaimsCache claimsCache;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Algorithm algorithm = Algorithm.HMAC512(SECRET);
+        accessToken = JWT.create()
+                .withSubject("AccessToken")
+                .withExpiresAt(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .withClaim(USERNAME_CLAIM, "username@konkuk.ac.kr")
+                .sign(algorithm);
+        verifier = JWT.require(algorithm).build();
+        claimsCache = new JwtClaimsCache(verifier, 10_000);
+        claimsCache.verify(accessToken);
+    }
+
+    @Benchmark
+    public String before() {
+        JWT.require(Algorithm.HMAC512(SECRET)).build().verify(accessToken); // isTokenValid
+        return JWT.require(Algorithm.HMAC512(SECRET)).build().verify(accessToken).getClaim(USERNAME_CLAIM).asString(); // extractUsername
+    }
+
+    @Benchmark
+    public String verifierReused() {
+        return verifier.verify(accessToken).getClaim(USERNAME_CLAIM).asString();
+    }
+
+    @Benchmark
+    public String claimsCacheHit() {
+        return claimsCache.verify(accessToken).map(this::username).orElse(null);
+    }
+
+    private String username(DecodedJWT jwt) {
+        return jwt.getClaim(USERNAME_CLAIM).asString();
+    }
+
+}
@@ -0,0 +1,65 @@
+package bobmukjaku.bobmukjakuDemo.global.scheduler;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/*
+* 100k개의 작업이 대기 중일 때 예약 + 취소 1회 비용 비교
+* - HashedTimingWheel: key로 O(1) 예약/취소
+* - ScheduledThreadPoolExecutor: 힙 기반 O(log n) 예약, removeOnCancel 시 작업에 저장된 heapIndex로 O(log n) 제거
+*   (차이는 점근 복잡도보다 힙 재정렬, 락 경합, 작업 객체 할당 같은 상수 비용)
+* 실행: ./gradlew jmh
+* */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimingWheelBenchmark {
+
+    private static final int PENDING = 100_000;
+    private static final Runnable NOOP = () -> { };
+
+    private HashedTimingWheel<Long, Runnable> timingWheel;
+    private ScheduledThreadPoolExecutor executor;
+    private long nextKey;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        timingWheel = new HashedTimingWheel<>("benchmark-wheel", 1, TimeUnit.SECONDS, 512, PENDING * 2, batch -> { });
+        timingWheel.start();
+        executor = new ScheduledThreadPoolExecutor(1);
+        executor.setRemoveOnCancelPolicy(true);
+
+        for (long key = 0; key < PENDING; key++) {
+            long delay = 60 + key % 3600; // 1분 ~ 1시간 뒤로 분산
+            timingWheel.schedule(key, NOOP, delay, TimeUnit.SECONDS);
+            executor.schedule(NOOP, delay, TimeUnit.SECONDS);
+        }
+        nextKey = PENDING;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        timingWheel.stop();
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public Runnable timingWheelScheduleAndCancel() {
+        long key = nextKey++;
+        timingWheel.schedule(key, NOOP, 30, TimeUnit.MINUTES);
+        return timingWheel.cancel(key);
+    }
+
+    @Benchmark
+    public boolean scheduledExecutorScheduleAndCancel() {
+        ScheduledFuture<?> future = executor.schedule(NOOP, 30, TimeUnit.MINUTES);
+        return future.cancel(false);
+    }
+
+}
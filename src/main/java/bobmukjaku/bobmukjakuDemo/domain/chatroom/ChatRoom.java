@@ -3,6 +3,7 @@ package bobmukjaku.bobmukjakuDemo.domain.chatroom;
 import bobmukjaku.bobmukjakuDemo.BaseTimeEntity;
 import bobmukjaku.bobmukjakuDemo.domain.memberchatroom.MemberChatRoom;
 import bobmukjaku.bobmukjakuDemo.domain.member.Member;
+import bobmukjaku.bobmukjakuDemo.domain.member.TimeTableMask;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -13,7 +14,13 @@ import java.util.List;
 
 import static jakarta.persistence.CascadeType.ALL;
 
-@Table(name = "chatroom")
+// 인덱스, 파생 컬럼: resources/db/002_chatroom_created_at_id_index.sql, 006_chatroom_date_id_index.sql, 008_chatroom_seat_version.sql, 010_chatroom_time_slot.sql, 011_chatroom_derived_columns.sql
+@Table(name = "chatroom", indexes = {
+        @Index(name = "idx_chatroom_created_at_id", columnList = "created_at, id"), // 목록 페이지 커서 조회용
+        @Index(name = "idx_chatroom_date_id", columnList = "date, id"), // 만료된 모집방 삭제용
+        @Index(name = "idx_chatroom_date_food_seat", columnList = "date, kind_of_food, current_num, total"), // 날짜/음식 종류/참여 가능 여부 필터용
+        @Index(name = "idx_chatroom_day_slot", columnList = "day_of_week, start_slot") // 요일/시간 필터용
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -52,6 +59,27 @@ public class ChatRoom extends BaseTimeEntity {
     @Column(name = "current_num")
     private int currentNum;
 
+    // 모임 날짜의 요일 (1=월 ~ 7=일, 요일 필터용)
+    @Column(name = "day_of_week")
+    private Integer dayOfWeek;
+
+    // 시작 시간의 30분 칸 번호 (0 ~ 47, 시간 필터용)
+    @Column(name = "start_slot")
+    private Integer startSlot;
+
+    // 요일 + 시작 시간의 30분 칸 번호 (시간표 필터용, TimeTableMask.slotIndex 참고)
+    @Column(name = "time_slot")
+    private Integer timeSlot;
+
+    // 날짜/시간 필터가 컬럼에 함수를 씌우지 않도록 저장 시 파생 컬럼 계산
+    @PrePersist
+    @PreUpdate
+    public void updateDerivedColumns() {
+        this.dayOfWeek = meetingDate == null ? null : meetingDate.getDayOfWeek().getValue();
+        this.startSlot = startTime == null ? null : TimeTableMask.slotOfDay(startTime);
+        this.timeSlot = TimeTableMask.slotIndex(meetingDate, startTime);
+    }
+
     /* 연관관계 메서드 */
     // 참여자 추가
     public void addParticipant(MemberChatRoom memberChatRoom) {
@@ -66,6 +94,17 @@ public class ChatRoom extends BaseTimeEntity {
         currentNum--;
     }
 
+    // 참여자 목록에만 추가 (현재 인원은 ChatRoomRepository.increaseCurrentNum으로 DB에서 증가)
+    public void attachParticipant(MemberChatRoom memberChatRoom) {
+        participants.add(memberChatRoom);
+    }
+
+    // 참여자 목록에서만 삭제 (현재 인원은 ChatRoomRepository.decreaseCurrentNum으로 DB에서 감소)
+    public void detachParticipant(MemberChatRoom memberChatRoom) {
+        Member member = memberChatRoom.getJoiner();
+        participants.removeIf(memberChatRoom1 -> memberChatRoom1.getJoiner().equals(member));
+    }
+
     // 참여 인원 증가
     public void addCurrentNum(){
         this.currentNum++;
@@ -3,6 +3,7 @@ package bobmukjaku.bobmukjakuDemo.domain.chatroom;
 import bobmukjaku.bobmukjakuDemo.domain.friend.Friend;
 import bobmukjaku.bobmukjakuDemo.domain.member.Member;
 import bobmukjaku.bobmukjakuDemo.domain.member.TimeBlock;
+import bobmukjaku.bobmukjakuDemo.domain.member.TimeTableMask;
 import bobmukjaku.bobmukjakuDemo.domain.member.exception.MemberException;
 import bobmukjaku.bobmukjakuDemo.domain.member.exception.MemberExceptionType;
 import bobmukjaku.bobmukjakuDemo.domain.member.repository.MemberRepository;
@@ -71,34 +72,27 @@ public class ChatRoomSpecification {
         return ((root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("total"), total));
     }
 
-    // 요일 필터링
+    // 요일 필터링 (weekday(date) 대신 저장된 day_of_week 사용)
     public static Specification<ChatRoom> equalDayOfWeek(Integer dayOfWeek) {
-        return ((root, query, criteriaBuilder) -> criteriaBuilder.equal(
-                criteriaBuilder.function("weekday", Integer.class, root.get("meetingDate")), dayOfWeek-1
-        ));
+        return ((root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("dayOfWeek"), dayOfWeek));
     }
 
     // 시간 필터링
     public static Specification<ChatRoom> betweenTime(LocalTime blockStartTime) {
         // ChatRoom의 startTime 값이 inputTime ~ inputTime+30분 사이에 있으면 해당 chatroom 반환하는 조건
+        // start_slot 범위로 인덱스에서 먼저 좁히고, 정확한 경계는 startTime으로 확인
         return (root, query, criteriaBuilder) -> {
             LocalTime blockEndTime = blockStartTime.plusMinutes(30);
-            return criteriaBuilder.between(root.get("startTime"), blockStartTime, blockEndTime);
+            return criteriaBuilder.and(
+                    criteriaBuilder.between(root.get("startSlot"), TimeTableMask.slotOfDay(blockStartTime), TimeTableMask.slotOfDay(blockEndTime)),
+                    criteriaBuilder.between(root.get("startTime"), blockStartTime, blockEndTime)
+            );
         };
     }
 
+    // 요일 + 시간 필터링 (day_of_week, start_slot 복합 인덱스 사용)
     public static Specification<ChatRoom> filteredByDayOfWeekAndTime(Integer dayOfWeek, LocalTime blockStartTime) {
-        return (root, query, criteriaBuilder) -> {
-            LocalTime blockEndTime = blockStartTime.plusMinutes(30);
-
-            // 요일 필터링 조건
-            Specification<ChatRoom> dayOfWeekSpec = equalDayOfWeek(dayOfWeek);
-            // 시간 필터링 조건
-            Specification<ChatRoom> timeSpec = betweenTime(blockStartTime);
-
-            // AND 연산으로 조건 합치기
-            return dayOfWeekSpec.and(timeSpec).toPredicate(root, query, criteriaBuilder);
-        };
+        return equalDayOfWeek(dayOfWeek).and(betweenTime(blockStartTime));
     }
 
     // TimeBlock으로 필터링
@@ -112,17 +106,18 @@ public class ChatRoomSpecification {
         return convertFilteredSpec;
     }
 
-    // 시간표로 필터링
+    // 시간표로 필터링 (시간표와 겹치는 칸에 시작하는 모집방 제외)
     public static Specification<ChatRoom> filteredByTimeTable(MemberRepository memberRepository, Long uid) {
         Member member = memberRepository.findById(uid).orElseThrow(()->new MemberException(MemberExceptionType.NOT_FOUND_MEMBER));
-        List<TimeBlock> timeBlockList = member.getTimeBlockList();
-        Specification<ChatRoom> specification = Specification.where(null);
-
-        for(TimeBlock timeBlock : timeBlockList){
-            specification = specification.and(filteredByTimeBlock(timeBlock));
-        }
+        return notInTimeTable(TimeTableMask.of(member.getTimeBlockList()));
+    }
 
-        return specification;
+    // 비트셋으로 변환한 시간표로 필터링 (TimeBlock마다 조건을 붙이지 않고 time_slot NOT IN 하나로 처리)
+    public static Specification<ChatRoom> notInTimeTable(TimeTableMask timeTableMask) {
+        if (timeTableMask.isEmpty())
+            return Specification.where(null);
+        List<Integer> busySlots = timeTableMask.slots();
+        return (root, query, criteriaBuilder) -> criteriaBuilder.not(root.get("timeSlot").in(busySlots));
     }
 
     // 사용자의 uid로 참여 중인 모집방 필터링
@@ -19,9 +19,12 @@ import static jakarta.persistence.FetchType.LAZY;
 @Entity
 public class FilterInfo {
 
+    // 필터 목록을 한 번에 batch insert 하도록 시퀀스 id 사용 (IDENTITY는 JDBC batch 불가)
+    // 시퀀스: resources/db/014_time_table_filter_info_seq.sql
     @Id
     @Column(name = "id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "filter_info_seq_generator")
+    @SequenceGenerator(name = "filter_info_seq_generator", sequenceName = "filter_info_seq", allocationSize = 50)
     private Long filterId;
 
     @Column(name = "type", length = 20)
@@ -10,10 +10,14 @@ import bobmukjaku.bobmukjakuDemo.global.utility.SecurityUtil;
 import jakarta.servlet.Filter;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -26,7 +30,7 @@ public class ChatRoomController {
      * <모집방 API>
      * 모집방 개설
      * 모집방 참여자 추가
-     * 모집방 조회 - 전체 조회, 방 id로 모집방 조회, 방 id로 참여자 조회, uid로 참여 중인 모집방 조회
+     * 모집방 조회 - 전체 조회(페이지, 스트리밍), 방 id로 모집방 조회, 방 id로 참여자 조회, uid로 참여 중인 모집방 조회
      * 모집방 필터링
      * 모집방 삭제 - 자동 종료, 모집방 나가기
      * 메시지 전송
@@ -35,6 +39,8 @@ public class ChatRoomController {
 
     private final ChatRoomService chatRoomService;
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     // 모집방 개설
     @PostMapping("/chatRoom")
     public ResponseEntity openChatRoom(@RequestBody ChatRoomCreateDto chatRoomCreateDto) throws Exception {
@@ -57,6 +63,26 @@ public class ChatRoomController {
         return new ResponseEntity<>(allChatRooms, HttpStatus.OK);
     }
 
+    // 모집방 페이지 조회 (최신 순, lastCreatedAt + lastRoomId 커서 이후 size개)
+    @GetMapping(value = "/chatRooms/info", params = "size")
+    public ResponseEntity getChatRoomPage(@RequestParam("size") int size,
+                                          @RequestParam(value = "lastCreatedAt", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastCreatedAt,
+                                          @RequestParam(value = "lastRoomId", required = false) Long lastRoomId) throws Exception {
+        if(size < 1 || size > MAX_PAGE_SIZE){
+            return new ResponseEntity("size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.", HttpStatus.BAD_REQUEST);
+        }
+        ChatRoomPageDto<ChatRoomInfoDto> page = chatRoomService.getChatRoomPage(ChatRoomCursor.of(lastCreatedAt, lastRoomId), size);
+        return new ResponseEntity<>(page, HttpStatus.OK);
+    }
+
+    // 모집방 전체 조회 (조회되는 대로 응답에 기록)
+    @GetMapping(value = "/chatRooms/info", params = "stream")
+    public void streamAllChatRooms(HttpServletResponse response) throws Exception {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        chatRoomService.writeAllChatRooms(response.getOutputStream());
+    }
+
     // 방 id로 모집방 조회
     @GetMapping("/chatRoom/info/1/{roomId}")
     public ResponseEntity getChatRoomInfo(@PathVariable("roomId")Long roomId) throws Exception {
@@ -99,6 +125,45 @@ public class ChatRoomController {
 
     }
 
+    // 종합 필터링 페이지 조회 (lastCreatedAt + lastRoomId 커서 이후 size개)
+    // 커서가 (생성 시간, 방 id)이므로 친구 참여 방을 앞에 모으지 않음 (hasFriend로 표시만)
+    @PostMapping(value = "/chatRooms/filtered", params = "size")
+    public ResponseEntity getFilteredChatRoomPage(@RequestBody List<FilterInfoDto> filters,
+                                                  @RequestParam("size") int size,
+                                                  @RequestParam(value = "lastCreatedAt", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastCreatedAt,
+                                                  @RequestParam(value = "lastRoomId", required = false) Long lastRoomId) throws Exception {
+        if(filters == null || filters.isEmpty()){
+            return new ResponseEntity("인자가 null 또는 빈 리스트입니다.", HttpStatus.BAD_REQUEST);
+        }
+        if(size < 1 || size > MAX_PAGE_SIZE){
+            return new ResponseEntity("size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.", HttpStatus.BAD_REQUEST);
+        }
+
+        ChatRoomCursor cursor = ChatRoomCursor.of(lastCreatedAt, lastRoomId);
+        List<FilterInfo> filterInfoList = cursor == null
+                ? chatRoomService.updateFilterInfo(filters) // 첫 페이지에서만 현재 필터 목록으로 업데이트
+                : filters.stream().map(filter -> new FilterInfo(filter.filterType(), filter.filterValue())).collect(Collectors.toList());
+        ChatRoomPageDto<FilteredRoomInfoDto> page = chatRoomService.getChatRoomsFilteredPage(filterInfoList, cursor, size);
+        if(page.rooms().isEmpty()){
+            return new ResponseEntity("검색 결과가 없습니다", HttpStatus.NO_CONTENT);
+        }
+        return new ResponseEntity<>(page, HttpStatus.OK);
+    }
+
+    // 종합 필터링 (조회되는 대로 응답에 기록, 모으지 않으므로 친구 참여 방을 앞에 모으지 않음)
+    @PostMapping(value = "/chatRooms/filtered", params = "stream")
+    public void streamFilteredChatRooms(@RequestBody List<FilterInfoDto> filters, HttpServletResponse response) throws Exception {
+        if(filters == null || filters.isEmpty()){
+            response.sendError(HttpStatus.BAD_REQUEST.value(), "인자가 null 또는 빈 리스트입니다.");
+            return;
+        }
+
+        List<FilterInfo> filterInfoList = chatRoomService.updateFilterInfo(filters); // 인자로 받은 리스트를 현재 필터 목록으로 업데이트
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        chatRoomService.writeChatRoomsFiltered(filterInfoList, response.getOutputStream());
+    }
+
     // 필터 조회
     @GetMapping("/filter/info")
     public ResponseEntity getMyFilterInfo(HttpServletResponse response) throws Exception {
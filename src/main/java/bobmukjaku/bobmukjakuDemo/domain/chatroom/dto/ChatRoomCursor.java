@@ -0,0 +1,14 @@
+package bobmukjaku.bobmukjakuDemo.domain.chatroom.dto;
+
+import java.time.LocalDateTime;
+
+// 모집방 목록 페이지 커서 (마지막으로 조회한 모집방의 생성 시간 + 방 id)
+public record ChatRoomCursor(LocalDateTime createdAt, Long roomId) {
+
+    public static ChatRoomCursor of(LocalDateTime createdAt, Long roomId) {
+        if (createdAt == null || roomId == null)
+            return null; // 첫 페이지
+        return new ChatRoomCursor(createdAt, roomId);
+    }
+
+}
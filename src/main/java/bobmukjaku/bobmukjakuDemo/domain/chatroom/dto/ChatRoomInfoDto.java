@@ -1,11 +1,13 @@
 package bobmukjaku.bobmukjakuDemo.domain.chatroom.dto;
 
 import bobmukjaku.bobmukjakuDemo.domain.chatroom.ChatRoom;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 @Data
@@ -20,6 +22,8 @@ public class ChatRoomInfoDto {
     private String kindOfFood; // 음식 분류
     private int total; // 전체 인원
     private int currentNum; // 참여 인원
+    @JsonIgnore
+    private LocalDateTime createdAt; // 생성 시간 (페이지 커서용)
 
     @Builder
     public ChatRoomInfoDto(ChatRoom chatRoom) {
@@ -31,6 +35,21 @@ public class ChatRoomInfoDto {
         this.kindOfFood = chatRoom.getKindOfFood();
         this.total = chatRoom.getTotal();
         this.currentNum = chatRoom.getCurrentNum();
+        this.createdAt = chatRoom.getCreatedAt();
+    }
+
+    // 조회 쿼리 결과를 바로 DTO로 받기 위한 생성자 (엔티티 로딩 X)
+    public ChatRoomInfoDto(Long roomId, String roomName, LocalDate meetingDate, LocalTime startTime, LocalTime endTime,
+                           String kindOfFood, int total, int currentNum, LocalDateTime createdAt) {
+        this.roomId = roomId;
+        this.roomName = roomName;
+        this.meetingDate = meetingDate;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.kindOfFood = kindOfFood;
+        this.total = total;
+        this.currentNum = currentNum;
+        this.createdAt = createdAt;
     }
 
 }
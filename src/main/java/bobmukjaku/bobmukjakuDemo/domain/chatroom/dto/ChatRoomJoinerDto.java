@@ -0,0 +1,5 @@
+package bobmukjaku.bobmukjakuDemo.domain.chatroom.dto;
+
+// 모집방 id - 참여자 uid 쌍
+public record ChatRoomJoinerDto(Long roomId, Long uid) {
+}
@@ -0,0 +1,7 @@
+package bobmukjaku.bobmukjakuDemo.domain.chatroom.dto;
+
+import java.util.List;
+
+// 모집방 목록 페이지 (nextCursor가 null이면 마지막 페이지)
+public record ChatRoomPageDto<T>(List<T> rooms, ChatRoomCursor nextCursor) {
+}
@@ -0,0 +1,5 @@
+package bobmukjaku.bobmukjakuDemo.domain.chatroom.dto;
+
+// 모집방 좌석 정보 (현재 인원, 정원, 좌석 카운터 반영 version)
+public record ChatRoomSeatDto(Long roomId, int currentNum, int total, long seatVersion) {
+}
@@ -1,11 +1,13 @@
 package bobmukjaku.bobmukjakuDemo.domain.chatroom.dto;
 
 import bobmukjaku.bobmukjakuDemo.domain.chatroom.ChatRoom;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 @Data
 @NoArgsConstructor
@@ -20,6 +22,8 @@ public class FilteredRoomInfoDto {
     private int total; // 전체 인원
     private int currentNum; // 참여 인원
     private int hasFriend; // 친구 참여(1), 친구 참여X(0)
+    @JsonIgnore
+    private LocalDateTime createdAt; // 생성 시간 (페이지 커서용)
 
     @Builder
     public FilteredRoomInfoDto(ChatRoom chatRoom) {
@@ -32,6 +36,22 @@ public class FilteredRoomInfoDto {
         this.total = chatRoom.getTotal();
         this.currentNum = chatRoom.getCurrentNum();
         this.hasFriend = 0; // 친구 참여X (디폴트)
+        this.createdAt = chatRoom.getCreatedAt();
+    }
+
+    // 필터링 쿼리 결과를 바로 DTO로 받기 위한 생성자 (엔티티 로딩 X)
+    public FilteredRoomInfoDto(Long roomId, String roomName, LocalDate meetingDate, LocalTime startTime, LocalTime endTime,
+                               String kindOfFood, int total, int currentNum, Integer hasFriend, LocalDateTime createdAt) {
+        this.roomId = roomId;
+        this.roomName = roomName;
+        this.meetingDate = meetingDate;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.kindOfFood = kindOfFood;
+        this.total = total;
+        this.currentNum = currentNum;
+        this.hasFriend = hasFriend;
+        this.createdAt = createdAt;
     }
 
     public void updateHasFriend(int hasFriend){
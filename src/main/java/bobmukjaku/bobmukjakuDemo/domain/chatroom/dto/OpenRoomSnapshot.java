@@ -0,0 +1,39 @@
+package bobmukjaku.bobmukjakuDemo.domain.chatroom.dto;
+
+import bobmukjaku.bobmukjakuDemo.domain.friend.UidSet;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
+
+// 참여 가능한 모집방의 읽기 전용 스냅샷 (OpenRoomReadModel에 보관, 변경 시 새 스냅샷으로 교체)
+public record OpenRoomSnapshot(Long roomId, String roomName, LocalDate meetingDate, LocalTime startTime, LocalTime endTime,
+                               String kindOfFood, int total, int currentNum, LocalDateTime createdAt,
+                               long[] participantUids) {
+
+    public static OpenRoomSnapshot of(ChatRoomInfoDto room, Collection<Long> participantUids) {
+        long[] uids = participantUids.stream().mapToLong(Long::longValue).sorted().toArray();
+        return new OpenRoomSnapshot(room.getRoomId(), room.getRoomName(), room.getMeetingDate(), room.getStartTime(),
+                room.getEndTime(), room.getKindOfFood(), room.getTotal(), room.getCurrentNum(), room.getCreatedAt(), uids);
+    }
+
+    // 자리가 남아있고 모임 날짜가 지나지 않은 방
+    public boolean isOpen(LocalDate today) {
+        return currentNum < total && meetingDate != null && !meetingDate.isBefore(today);
+    }
+
+    // uids 중 한 명이라도 참여 중인지 (정렬된 배열끼리 교집합 확인)
+    public boolean hasParticipantIn(UidSet uids) {
+        return !uids.isEmpty() && uids.intersects(participantUids);
+    }
+
+    public ChatRoomInfoDto toInfoDto() {
+        return new ChatRoomInfoDto(roomId, roomName, meetingDate, startTime, endTime, kindOfFood, total, currentNum, createdAt);
+    }
+
+    public FilteredRoomInfoDto toFilteredDto(int hasFriend) {
+        return new FilteredRoomInfoDto(roomId, roomName, meetingDate, startTime, endTime, kindOfFood, total, currentNum, hasFriend, createdAt);
+    }
+
+}
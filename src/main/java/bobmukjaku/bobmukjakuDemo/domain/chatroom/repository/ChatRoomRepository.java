@@ -1,20 +1,109 @@
 package bobmukjaku.bobmukjakuDemo.domain.chatroom.repository;
 
 import bobmukjaku.bobmukjakuDemo.domain.chatroom.ChatRoom;
+import bobmukjaku.bobmukjakuDemo.domain.chatroom.dto.ChatRoomInfoDto;
 import bobmukjaku.bobmukjakuDemo.domain.member.Member;
+import jakarta.persistence.QueryHint;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long>, JpaSpecificationExecutor<ChatRoom> {
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long>, JpaSpecificationExecutor<ChatRoom>, ChatRoomRepositoryCustom {
 
     List<ChatRoom> findAllByOrderByCreatedAtDesc(); // 최신 순 정렬
 
     Optional<ChatRoom> findChatRoomByRoomName(String roomName); // 모집방 이름으로 검색
 
+    // 모집방 목록 첫 페이지 (최신 순)
+    @Query("select new bobmukjaku.bobmukjakuDemo.domain.chatroom.dto.ChatRoomInfoDto(c.chatRoomId, c.roomName, c.meetingDate, c.startTime, c.endTime, c.kindOfFood, c.total, c.currentNum, c.createdAt) " +
+            "from ChatRoom c order by c.createdAt desc, c.chatRoomId desc")
+    List<ChatRoomInfoDto> findFirstRoomInfoPage(Pageable pageable);
+
+    // 모집방 목록 다음 페이지 (커서 이후의 모집방, 최신 순)
+    @Query("select new bobmukjaku.bobmukjakuDemo.domain.chatroom.dto.ChatRoomInfoDto(c.chatRoomId, c.roomName, c.meetingDate, c.startTime, c.endTime, c.kindOfFood, c.total, c.currentNum, c.createdAt) " +
+            "from ChatRoom c where c.createdAt < :createdAt or (c.createdAt = :createdAt and c.chatRoomId < :roomId) " +
+            "order by c.createdAt desc, c.chatRoomId desc")
+    List<ChatRoomInfoDto> findNextRoomInfoPage(@Param("createdAt") LocalDateTime createdAt, @Param("roomId") Long roomId, Pageable pageable);
+
+    // 모집방 전체를 한 번에 올리지 않고 순차적으로 읽음 (트랜잭션 안에서 사용)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "100"))
+    @Query("select new bobmukjaku.bobmukjakuDemo.domain.chatroom.dto.ChatRoomInfoDto(c.chatRoomId, c.roomName, c.meetingDate, c.startTime, c.endTime, c.kindOfFood, c.total, c.currentNum, c.createdAt) " +
+            "from ChatRoom c order by c.createdAt desc, c.chatRoomId desc")
+    Stream<ChatRoomInfoDto> streamAllRoomInfo();
+
+    // 방 id로 모집방 정보 조회 (엔티티 로딩 X)
+    @Query("select new bobmukjaku.bobmukjakuDemo.domain.chatroom.dto.ChatRoomInfoDto(c.chatRoomId, c.roomName, c.meetingDate, c.startTime, c.endTime, c.kindOfFood, c.total, c.currentNum, c.createdAt) " +
+            "from ChatRoom c where c.chatRoomId = :roomId")
+    Optional<ChatRoomInfoDto> findRoomInfo(@Param("roomId") Long roomId);
+
+    // 방 id 목록으로 모집방 정보 일괄 조회 (엔티티 로딩 X)
+    @Query("select new bobmukjaku.bobmukjakuDemo.domain.chatroom.dto.ChatRoomInfoDto(c.chatRoomId, c.roomName, c.meetingDate, c.startTime, c.endTime, c.kindOfFood, c.total, c.currentNum, c.createdAt) " +
+            "from ChatRoom c where c.chatRoomId in :roomIds")
+    List<ChatRoomInfoDto> findRoomInfos(@Param("roomIds") Collection<Long> roomIds);
+
+    // 참여 가능한(자리가 남아있고 모임 날짜가 지나지 않은) 모집방 정보 조회
+    @Query("select new bobmukjaku.bobmukjakuDemo.domain.chatroom.dto.ChatRoomInfoDto(c.chatRoomId, c.roomName, c.meetingDate, c.startTime, c.endTime, c.kindOfFood, c.total, c.currentNum, c.createdAt) " +
+            "from ChatRoom c where c.meetingDate >= :today and c.currentNum < c.total")
+    List<ChatRoomInfoDto> findOpenRoomInfo(@Param("today") LocalDate today);
+
+    // afterId 이후의 만료된(모임 날짜가 date 이전인) 모집방 id를 id 순으로 조회
+    @Query("select c.chatRoomId from ChatRoom c where c.meetingDate < :date and c.chatRoomId > :afterId order by c.chatRoomId")
+    List<Long> findExpiredRoomIds(@Param("date") LocalDate date, @Param("afterId") Long afterId, Pageable pageable);
+
+    // 모집방 일괄 삭제 (참여 정보는 먼저 삭제해야 함)
+    @Modifying
+    @Query("delete from ChatRoom c where c.chatRoomId in :roomIds")
+    int deleteAllByChatRoomIds(@Param("roomIds") Collection<Long> roomIds);
+
+    // 정원이 남아있을 때만 참여 인원 증가 (증가했으면 1, 정원 초과 또는 없는 방이면 0)
+    @Modifying(flushAutomatically = true)
+    @Query("update ChatRoom c set c.currentNum = c.currentNum + 1 where c.chatRoomId = :roomId and c.currentNum < c.total")
+    int increaseCurrentNum(@Param("roomId") Long roomId);
+
+    // 참여 인원 감소
+    @Modifying(flushAutomatically = true)
+    @Query("update ChatRoom c set c.currentNum = c.currentNum - 1 where c.chatRoomId = :roomId and c.currentNum > 0")
+    int decreaseCurrentNum(@Param("roomId") Long roomId);
+
+    // 현재 참여 인원만 조회
+    @Query("select c.currentNum from ChatRoom c where c.chatRoomId = :roomId")
+    Optional<Integer> findCurrentNum(@Param("roomId") Long roomId);
+
+    // 참여 정보가 하나도 없는 모집방 삭제 (삭제했으면 1)
+    // current_num은 Redis 모드에서 늦게 반영될 수 있으므로 참여 정보 행을 기준으로 판단
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from ChatRoom c where c.chatRoomId = :roomId " +
+            "and not exists (select m from MemberChatRoom m where m.chatRoom.chatRoomId = :roomId)")
+    int deleteIfNoParticipants(@Param("roomId") Long roomId);
+
+    // 파생 컬럼이 비어있는 기존 모집방 채우기 (ChatRoom.updateDerivedColumns와 같은 계산, weekday: 월=0)
+    @Transactional
+    @Modifying
+    @Query(value = "update chatroom set day_of_week = weekday(date) + 1, " +
+            "start_slot = hour(start_at) * 2 + floor(minute(start_at) / 30), " +
+            "time_slot = weekday(date) * 48 + hour(start_at) * 2 + floor(minute(start_at) / 30) " +
+            "where (day_of_week is null and date is not null) or (start_slot is null and start_at is not null)", nativeQuery = true)
+    int fillMissingDerivedColumns();
+
+    // 모든 모집방의 current_num을 실제 참여 정보 수로 맞춤 (시작 시 보정용, 이전 좌석 카운터 값이 덮어쓰지 않도록 seat_version 증가)
+    @Transactional
+    @Modifying
+    @Query(value = "update chatroom c set c.current_num = (select count(*) from member_chatroom m where m.chatroom_id = c.id), c.seat_version = c.seat_version + 1", nativeQuery = true)
+    int syncCurrentNumWithParticipants();
+
 }
@@ -0,0 +1,22 @@
+package bobmukjaku.bobmukjakuDemo.domain.chatroom.repository;
+
+import bobmukjaku.bobmukjakuDemo.domain.chatroom.ChatRoom;
+import bobmukjaku.bobmukjakuDemo.domain.chatroom.dto.ChatRoomCursor;
+import bobmukjaku.bobmukjakuDemo.domain.chatroom.dto.FilteredRoomInfoDto;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface ChatRoomRepositoryCustom {
+
+    // 필터 조건 + 차단 사용자 제외 + 친구 참여 여부를 한 번의 쿼리로 조회
+    List<FilteredRoomInfoDto> findFilteredRoomInfo(Specification<ChatRoom> specification, Long uid);
+
+    // 필터링 결과를 커서(생성 시간 + 방 id) 기준으로 size개 조회
+    List<FilteredRoomInfoDto> findFilteredRoomInfoPage(Specification<ChatRoom> specification, Long uid, ChatRoomCursor cursor, boolean ascending, int size);
+
+    // 필터링 결과를 순차적으로 읽음 (트랜잭션 안에서 사용)
+    Stream<FilteredRoomInfoDto> streamFilteredRoomInfo(Specification<ChatRoom> specification, Long uid);
+
+}
@@ -0,0 +1,116 @@
+package bobmukjaku.bobmukjakuDemo.domain.chatroom.repository;
+
+import bobmukjaku.bobmukjakuDemo.domain.chatroom.ChatRoom;
+import bobmukjaku.bobmukjakuDemo.domain.chatroom.dto.ChatRoomCursor;
+import bobmukjaku.bobmukjakuDemo.domain.chatroom.dto.FilteredRoomInfoDto;
+import bobmukjaku.bobmukjakuDemo.domain.friend.Friend;
+import bobmukjaku.bobmukjakuDemo.domain.memberchatroom.MemberChatRoom;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+public class ChatRoomRepositoryImpl implements ChatRoomRepositoryCustom {
+
+    private static final int STREAM_FETCH_SIZE = 100;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /*
+    * select new FilteredRoomInfoDto(..., case when exists(친구 참여) then 1 else 0 end)
+    * from ChatRoom c
+    * where (필터 조건) and not exists(차단 사용자 참여)
+    * */
+    @Override
+    public List<FilteredRoomInfoDto> findFilteredRoomInfo(Specification<ChatRoom> specification, Long uid) {
+        return entityManager.createQuery(createFilteredRoomInfoQuery(specification, uid, null, null)).getResultList();
+    }
+
+    @Override
+    public List<FilteredRoomInfoDto> findFilteredRoomInfoPage(Specification<ChatRoom> specification, Long uid, ChatRoomCursor cursor, boolean ascending, int size) {
+        return entityManager.createQuery(createFilteredRoomInfoQuery(specification, uid, cursor, ascending))
+                .setMaxResults(size)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<FilteredRoomInfoDto> streamFilteredRoomInfo(Specification<ChatRoom> specification, Long uid) {
+        return entityManager.createQuery(createFilteredRoomInfoQuery(specification, uid, null, null))
+                .setHint(HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .getResultStream();
+    }
+
+    // ascending이 null이면 정렬은 필터(latest, oldest)에 맡기고, 아니면 (생성 시간, 방 id) 커서 기준으로 정렬
+    private CriteriaQuery<FilteredRoomInfoDto> createFilteredRoomInfoQuery(Specification<ChatRoom> specification, Long uid, ChatRoomCursor cursor, Boolean ascending) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<FilteredRoomInfoDto> query = criteriaBuilder.createQuery(FilteredRoomInfoDto.class);
+        Root<ChatRoom> root = query.from(ChatRoom.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (specification != null) {
+            Predicate filterPredicate = specification.toPredicate(root, query, criteriaBuilder); // 정렬 필터는 query에 orderBy 지정
+            if (filterPredicate != null)
+                predicates.add(filterPredicate);
+        }
+        predicates.add(criteriaBuilder.not(criteriaBuilder.exists(participatingRelation(query, criteriaBuilder, root, uid, true)))); // 차단 사용자가 참여 중인 방 제외
+
+        if (ascending != null) {
+            Path<LocalDateTime> createdAt = root.get("createdAt");
+            Path<Long> roomId = root.get("chatRoomId");
+            if (cursor != null) { // 커서 이후의 모집방만 조회
+                predicates.add(ascending
+                        ? criteriaBuilder.or(criteriaBuilder.greaterThan(createdAt, cursor.createdAt()),
+                                criteriaBuilder.and(criteriaBuilder.equal(createdAt, cursor.createdAt()), criteriaBuilder.greaterThan(roomId, cursor.roomId())))
+                        : criteriaBuilder.or(criteriaBuilder.lessThan(createdAt, cursor.createdAt()),
+                                criteriaBuilder.and(criteriaBuilder.equal(createdAt, cursor.createdAt()), criteriaBuilder.lessThan(roomId, cursor.roomId()))));
+            }
+            query.orderBy(ascending
+                    ? List.of(criteriaBuilder.asc(createdAt), criteriaBuilder.asc(roomId))
+                    : List.of(criteriaBuilder.desc(createdAt), criteriaBuilder.desc(roomId)));
+        }
+
+        Expression<Integer> hasFriend = criteriaBuilder.<Integer>selectCase()
+                .when(criteriaBuilder.exists(participatingRelation(query, criteriaBuilder, root, uid, false)), 1)
+                .otherwise(0); // 친구가 참여 중이면 1
+
+        query.select(criteriaBuilder.construct(FilteredRoomInfoDto.class,
+                        root.get("chatRoomId"),
+                        root.get("roomName"),
+                        root.get("meetingDate"),
+                        root.get("startTime"),
+                        root.get("endTime"),
+                        root.get("kindOfFood"),
+                        root.get("total"),
+                        root.get("currentNum"),
+                        hasFriend,
+                        root.get("createdAt")))
+                .where(predicates.toArray(new Predicate[0]));
+
+        return query;
+    }
+
+    // uid 사용자가 친구(또는 차단)로 등록한 회원이 root 모집방에 참여 중인지 확인하는 서브쿼리
+    private Subquery<Long> participatingRelation(CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder, Root<ChatRoom> root, Long uid, boolean isBlock) {
+        Subquery<Long> subquery = query.subquery(Long.class);
+        Root<MemberChatRoom> memberChatRoom = subquery.from(MemberChatRoom.class);
+        Root<Friend> friend = subquery.from(Friend.class);
+
+        subquery.select(memberChatRoom.get("memberChatroomId"))
+                .where(
+                        criteriaBuilder.equal(memberChatRoom.get("chatRoom"), root),
+                        criteriaBuilder.equal(friend.get("member").get("uid"), uid),
+                        criteriaBuilder.equal(friend.get("isBlock"), isBlock),
+                        criteriaBuilder.equal(friend.get("friendUid"), memberChatRoom.get("joiner").get("uid"))
+                );
+        return subquery;
+    }
+
+}
@@ -2,6 +2,14 @@ package bobmukjaku.bobmukjakuDemo.domain.chatroom.repository;
 
 import bobmukjaku.bobmukjakuDemo.domain.chatroom.FilterInfo;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface FilterInfoRepository extends JpaRepository<FilterInfo, Long> {
+
+    // 회원의 필터 목록 일괄 삭제 (DELETE 한 번)
+    @Modifying(flushAutomatically = true)
+    @Query("delete from FilterInfo f where f.member.uid = :uid")
+    int deleteAllByUid(@Param("uid") Long uid);
 }
@@ -0,0 +1,18 @@
+package bobmukjaku.bobmukjakuDemo.domain.chatroom.service;
+
+import bobmukjaku.bobmukjakuDemo.global.cache.CachedEntity;
+import bobmukjaku.bobmukjakuDemo.global.cache.EntityChangedEvent;
+
+// 모집방 개설/참여/나가기/삭제 등으로 모집방 정보가 바뀌었을 때 발행
+public record ChatRoomChangedEvent(Long roomId) implements EntityChangedEvent {
+
+    @Override
+    public CachedEntity entity() {
+        return CachedEntity.CHAT_ROOM;
+    }
+
+    @Override
+    public Long id() {
+        return roomId;
+    }
+}
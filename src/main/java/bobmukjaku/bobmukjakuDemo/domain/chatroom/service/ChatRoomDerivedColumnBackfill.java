@@ -0,0 +1,45 @@
+package bobmukjaku.bobmukjakuDemo.domain.chatroom.service;
+
+import bobmukjaku.bobmukjakuDemo.domain.chatroom.repository.ChatRoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 엔티티 저장 시 계산되는 파생 컬럼을 기존 모집방에도 채움 (이미 채워진 행은 건드리지 않음)
+// 컬럼은 resources/db/010_chatroom_time_slot.sql, 011_chatroom_derived_columns.sql로 직접 추가해야 함
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomDerivedColumnBackfill {
+
+    private static final List<String> DERIVED_COLUMNS = List.of("day_of_week", "start_slot", "time_slot");
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        // DDL이 아직 적용되지 않았으면 시작을 막지 않고 건너뜀
+        List<String> missing = missingColumns();
+        if (!missing.isEmpty()) {
+            log.warn("chatroom 테이블에 파생 컬럼 {}이 없어 채우기를 건너뜀 (resources/db 스크립트 실행 필요)", missing);
+            return;
+        }
+        int filled = chatRoomRepository.fillMissingDerivedColumns();
+        if (filled > 0)
+            log.info("모집방 파생 컬럼(day_of_week, start_slot, time_slot) 채움 ({}개)", filled);
+    }
+
+    private List<String> missingColumns() {
+        List<String> existing = jdbcTemplate.queryForList(
+                "select lower(column_name) from information_schema.columns " +
+                "where table_schema = database() and table_name = 'chatroom'", String.class);
+        return DERIVED_COLUMNS.stream().filter(column -> !existing.contains(column)).toList();
+    }
+
+}
@@ -1,8 +1,12 @@
 package bobmukjaku.bobmukjakuDemo.domain.chatroom.service;
 
+import bobmukjaku.bobmukjakuDemo.domain.chatroom.dto.ChatRoomCursor;
+import bobmukjaku.bobmukjakuDemo.domain.chatroom.dto.ChatRoomPageDto;
 import bobmukjaku.bobmukjakuDemo.domain.chatroom.dto.FilteredRoomInfoDto;
+import bobmukjaku.bobmukjakuDemo.domain.chatroom.dto.OpenRoomSnapshot;
+import bobmukjaku.bobmukjakuDemo.domain.friend.service.FriendGraph;
+import bobmukjaku.bobmukjakuDemo.domain.member.TimeTableMask;
 import bobmukjaku.bobmukjakuDemo.domain.chatroom.repository.FilterInfoRepository;
-import bobmukjaku.bobmukjakuDemo.domain.friend.Friend;
 import bobmukjaku.bobmukjakuDemo.domain.memberchatroom.MemberChatRoom;
 import bobmukjaku.bobmukjakuDemo.domain.memberchatroom.repository.MemberChatRoomRepository;
 import bobmukjaku.bobmukjakuDemo.domain.chatroom.ChatRoom;
@@ -17,19 +21,26 @@ import bobmukjaku.bobmukjakuDemo.domain.member.dto.MemberInfoDto;
 import bobmukjaku.bobmukjakuDemo.domain.member.exception.MemberException;
 import bobmukjaku.bobmukjakuDemo.domain.member.exception.MemberExceptionType;
 import bobmukjaku.bobmukjakuDemo.domain.member.repository.MemberRepository;
+import bobmukjaku.bobmukjakuDemo.domain.notification.service.RoomNotificationService;
 import bobmukjaku.bobmukjakuDemo.global.utility.SecurityUtil;
-import com.google.firebase.messaging.*;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -40,6 +51,14 @@ public class ChatRoomService {
     private final MemberRepository memberRepository;
     private final MemberChatRoomRepository memberChatRoomRepository;
     private final FilterInfoRepository filterInfoRepository;
+    private final RoomNotificationService roomNotificationService;
+    private final RoomSeatCounter roomSeatCounter;
+    private final OpenRoomReadModel openRoomReadModel;
+    private final FriendGraph friendGraph;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    private static final int STREAM_FLUSH_SIZE = 100;
 
     // 모집방 개설
     public ChatRoomInfoDto createChatRoom(ChatRoomCreateDto chatRoomCreateDto, String username) throws Exception {
@@ -53,6 +72,7 @@ public class ChatRoomService {
         createdChatRoom.addParticipant(memberChatRoomInfo); // createdChatRoom 참여자 목록에 host 추가
 
         ChatRoom savedEntity = chatRoomRepository.save(createdChatRoom);
+        eventPublisher.publishEvent(new ChatRoomChangedEvent(savedEntity.getChatRoomId()));
 
         //참가자들에게 보낼 메시지를 예약한다.
         System.out.println("방id  :   " + savedEntity.getChatRoomId() + "\n\n\n");
@@ -63,28 +83,34 @@ public class ChatRoomService {
 
     // 모집방 참여자 추가
     public Boolean addMemberToChatRoom(Long roomId, Long uid){
-        Boolean result = null;
-        ChatRoom chatRoom = chatRoomRepository.findById(roomId)
-                .orElseThrow(()-> new IllegalArgumentException("모집방을 찾을 수 없습니다. 모집방 ID: " + roomId));
-        Member joiner = memberRepository.findById(uid)
-                .orElseThrow(()-> new IllegalArgumentException("회원을 찾을 수 없습니다. 회원 UID: " + uid));
-
-        MemberChatRoom memberChatRoomInfo = new MemberChatRoom(joiner, chatRoom);
-
-        if(chatRoom.getCurrentNum() < chatRoom.getTotal()){ // 참여 가능한 방인지 검사
-            List<Long> currentChatRoomIdList = joiner.getJoiningRooms().stream().map(memberChatRoom -> memberChatRoom.getChatRoom().getChatRoomId()).collect(Collectors.toList());
-            if (currentChatRoomIdList.contains(roomId)){ // 이미 참여한 방인지 검사
-                System.out.println("이미 가입한 모집방입니다");
-                result = false;
-            }
-            chatRoom.addParticipant(memberChatRoomInfo);
-            joiner.addChatRoom(memberChatRoomInfo);
-            result = true;
-        } else {
+        if (!memberRepository.existsById(uid))
+            throw new IllegalArgumentException("회원을 찾을 수 없습니다. 회원 UID: " + uid);
+
+        if (memberChatRoomRepository.existsByChatRoomIdAndJoinerUid(roomId, uid)){ // 이미 참여한 방인지 검사 (참여 모집방 목록 로딩 X)
+            System.out.println("이미 가입한 모집방입니다");
+            return false;
+        }
+
+        // 정원 검사와 인원 증가를 한 번에 처리 (동시 참여 시에도 정원 초과 X)
+        if (!roomSeatCounter.tryAcquire(roomId)) {
+            if (!chatRoomRepository.existsById(roomId))
+                throw new IllegalArgumentException("모집방을 찾을 수 없습니다. 모집방 ID: " + roomId);
             System.out.println("모집 정원 초과입니다");
-            result = false;
+            return false;
         }
-        return result;
+
+        // 동시에 같은 회원이 중복 참여하면 (member_id, chatroom_id) 유니크 제약으로 실패 -> 인원 증가도 함께 롤백
+        Member joiner = memberRepository.getReferenceById(uid);
+        ChatRoom chatRoom = chatRoomRepository.getReferenceById(roomId);
+        MemberChatRoom memberChatRoomInfo = memberChatRoomRepository.saveAndFlush(new MemberChatRoom(joiner, chatRoom));
+
+        // 이미 로딩된 연관관계에만 반영 (반영하려고 새로 로딩하지 않음)
+        if (Hibernate.isInitialized(chatRoom) && Hibernate.isInitialized(chatRoom.getParticipants()))
+            chatRoom.attachParticipant(memberChatRoomInfo);
+        if (Hibernate.isInitialized(joiner) && Hibernate.isInitialized(joiner.getJoiningRooms()))
+            joiner.addChatRoom(memberChatRoomInfo);
+        eventPublisher.publishEvent(new ChatRoomChangedEvent(roomId));
+        return true;
     }
 
     // 전체 모집방 조회
@@ -94,8 +120,34 @@ public class ChatRoomService {
         return result;
     }
 
+    // 전체 모집방 페이지 조회 (최신 순, 커서 이후 size개)
+    public ChatRoomPageDto<ChatRoomInfoDto> getChatRoomPage(ChatRoomCursor cursor, int size) throws Exception {
+        Pageable pageable = PageRequest.of(0, size + 1); // 다음 페이지 존재 여부 확인용으로 1개 더 조회
+        List<ChatRoomInfoDto> rooms = (cursor == null)
+                ? chatRoomRepository.findFirstRoomInfoPage(pageable)
+                : chatRoomRepository.findNextRoomInfoPage(cursor.createdAt(), cursor.roomId(), pageable);
+
+        if (rooms.size() <= size)
+            return new ChatRoomPageDto<>(rooms, null); // 마지막 페이지
+        List<ChatRoomInfoDto> page = rooms.subList(0, size);
+        ChatRoomInfoDto last = page.get(size - 1);
+        return new ChatRoomPageDto<>(page, ChatRoomCursor.of(last.getCreatedAt(), last.getRoomId()));
+    }
+
+    // 전체 모집방을 조회되는 대로 JSON 배열로 출력
+    public void writeAllChatRooms(OutputStream outputStream) throws Exception {
+        try (Stream<ChatRoomInfoDto> rooms = chatRoomRepository.streamAllRoomInfo()) {
+            writeJsonArray(rooms.iterator(), outputStream);
+        }
+    }
+
     // 방 id로 모집방 조회
     public ChatRoomInfoDto getChatRoomInfo(Long id) throws Exception {
+        if (openRoomReadModel.isEnabled()) { // 참여 가능한 방이면 읽기 모델에서 바로 반환
+            Optional<OpenRoomSnapshot> openRoom = openRoomReadModel.find(id);
+            if (openRoom.isPresent())
+                return openRoom.get().toInfoDto();
+        }
         ChatRoom chatRoom = chatRoomRepository.findById(id).orElseThrow(() -> new Exception("존재하지 않는 모집방입니다"));
         return new ChatRoomInfoDto(chatRoom);
     }
@@ -121,6 +173,58 @@ public class ChatRoomService {
     // 필터링
     public List<FilteredRoomInfoDto> getChatRoomsFiltered(List<FilterInfo> filters) throws Exception {
         Member member = memberRepository.findByMemberEmail(SecurityUtil.getLoginUsername()).orElseThrow(()->new MemberException(MemberExceptionType.NOT_FOUND_MEMBER));
+
+        // FilterInfo로 필터링 + 차단 사용자 참여 방 제외 + 친구 참여 방 구별(hasFriend 1)을 한 번의 쿼리로 처리
+        List<FilteredRoomInfoDto> filteredRoomInfoDtoList;
+        if (openRoomReadModel.isEnabled()) { // 참여 가능한 방 읽기 모델에서 필터링 (친구/차단은 친구 그래프와 참여자 uid 교집합으로 판단)
+            FriendGraph.Adjacency adjacency = friendGraph.get(member.getUid());
+            filteredRoomInfoDtoList = openRoomReadModel.filter(filters, this::loadTimeTableMask, adjacency.friends(), adjacency.blocks());
+        } else {
+            Specification<ChatRoom> combinedSpecification = createCombinedSpecification(filters);
+            filteredRoomInfoDtoList = new ArrayList<>(chatRoomRepository.findFilteredRoomInfo(combinedSpecification, member.getUid()));
+        }
+
+        if (filteredRoomInfoDtoList.isEmpty()) {
+            return null;
+        }
+
+        // 친구가 참여 중인 방을 앞쪽에 배치 (stable sort이므로 정렬 필터 순서는 유지)
+        filteredRoomInfoDtoList.sort(Comparator.comparingInt(FilteredRoomInfoDto::getHasFriend).reversed());
+        return filteredRoomInfoDtoList;
+    }
+
+    // 필터링 페이지 조회 (oldest 필터가 있으면 오래된 순, 없으면 최신 순으로 커서 이후 size개)
+    public ChatRoomPageDto<FilteredRoomInfoDto> getChatRoomsFilteredPage(List<FilterInfo> filters, ChatRoomCursor cursor, int size) throws Exception {
+        Member member = memberRepository.findByMemberEmail(SecurityUtil.getLoginUsername()).orElseThrow(()->new MemberException(MemberExceptionType.NOT_FOUND_MEMBER));
+        boolean ascending = filters.stream().anyMatch(filter -> "oldest".equals(filter.getFilterType()));
+
+        Specification<ChatRoom> combinedSpecification = createCombinedSpecification(filters);
+        List<FilteredRoomInfoDto> rooms = chatRoomRepository.findFilteredRoomInfoPage(combinedSpecification, member.getUid(), cursor, ascending, size + 1);
+
+        if (rooms.size() <= size)
+            return new ChatRoomPageDto<>(rooms, null); // 마지막 페이지
+        List<FilteredRoomInfoDto> page = rooms.subList(0, size);
+        FilteredRoomInfoDto last = page.get(size - 1);
+        return new ChatRoomPageDto<>(page, ChatRoomCursor.of(last.getCreatedAt(), last.getRoomId()));
+    }
+
+    // 필터링 결과를 조회되는 대로 JSON 배열로 출력
+    public void writeChatRoomsFiltered(List<FilterInfo> filters, OutputStream outputStream) throws Exception {
+        Member member = memberRepository.findByMemberEmail(SecurityUtil.getLoginUsername()).orElseThrow(()->new MemberException(MemberExceptionType.NOT_FOUND_MEMBER));
+        Specification<ChatRoom> combinedSpecification = createCombinedSpecification(filters);
+        try (Stream<FilteredRoomInfoDto> rooms = chatRoomRepository.streamFilteredRoomInfo(combinedSpecification, member.getUid())) {
+            writeJsonArray(rooms.iterator(), outputStream);
+        }
+    }
+
+    // 회원 시간표를 비트셋으로 변환
+    private TimeTableMask loadTimeTableMask(Long uid) {
+        Member member = memberRepository.findById(uid).orElseThrow(()->new MemberException(MemberExceptionType.NOT_FOUND_MEMBER));
+        return TimeTableMask.of(member.getTimeBlockList());
+    }
+
+    // FilterInfo 목록을 하나의 Specification으로 조합
+    private Specification<ChatRoom> createCombinedSpecification(List<FilterInfo> filters) {
         List<Specification<ChatRoom>> specifications = new ArrayList<>();
 
         for (FilterInfo filter : filters) {
@@ -131,47 +235,21 @@ public class ChatRoomService {
                 System.out.println("유효하지 않은 필터입니다.");
         }
 
-        // FilterInfo로 필터링
-        Specification<ChatRoom> combinedSpecification = ChatRoomSpecification.combineSpecifications(specifications);
-        List<ChatRoom> filteredChatRooms = chatRoomRepository.findAll(combinedSpecification);
-
-        // 필터링 결과에서 차단 사용자가 참여하는 방 제외
-        List<Long> blockUidList = member.getFriendList().stream()
-                .filter(friend -> friend.getIsBlock().equals(true)) // 사용자가 차단한 사용자 uid 추출
-                .map(Friend::getFriendUid).toList();
-        if(blockUidList != null && !blockUidList.isEmpty()){ // 차단사용자가 있을 경우
-            List<ChatRoom> blockedRooms = chatRoomRepository.findAll(ChatRoomSpecification.filteredByBlock(blockUidList));
-            filteredChatRooms.removeAll(blockedRooms); // (필터링된 방 - 차단 참여자가 참여 중인 방)
-        }
+        return ChatRoomSpecification.combineSpecifications(specifications);
+    }
 
-        // 필터링 결과에서 친구가 참여하는 방 구별 (hasFriend 1로 변경)
-        List<Long> friendUidList = member.getFriendList().stream()
-                .filter(friend -> friend.getIsBlock().equals(false)) // 사용자의 친구 uid 추출
-                .map(Friend::getFriendUid).toList();
-
-        if(friendUidList != null && !friendUidList.isEmpty()){ // 밥친구가 있을 경우
-            List<ChatRoom> friendRooms = chatRoomRepository.findAll(ChatRoomSpecification.filteredByFriend(friendUidList));
-            List<ChatRoom> filteredRoomsWithFriend = new ArrayList<>(filteredChatRooms);
-            filteredRoomsWithFriend.retainAll(friendRooms); // 필터링 결과에서 친구가 참여 중인 방 추출
-
-            if (!filteredRoomsWithFriend.isEmpty()) {
-                List<FilteredRoomInfoDto> filteredRoomsWithFriendDto = new ArrayList<>();
-                for (ChatRoom room : filteredRoomsWithFriend) {
-                    FilteredRoomInfoDto dto = new FilteredRoomInfoDto(room);
-                    dto.updateHasFriend(1); // 친구 참여 표시
-                    filteredRoomsWithFriendDto.add(dto);
-                }
-                filteredChatRooms.removeAll(filteredRoomsWithFriend);
-                filteredRoomsWithFriendDto.addAll(filteredChatRooms.stream().map(FilteredRoomInfoDto::new).collect(Collectors.toList()));
-                return filteredRoomsWithFriendDto;
+    // 목록을 모두 모으지 않고 한 건씩 JSON으로 출력
+    private void writeJsonArray(Iterator<?> rows, OutputStream outputStream) throws Exception {
+        try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+            generator.writeStartArray();
+            int count = 0;
+            while (rows.hasNext()) {
+                generator.writeObject(rows.next());
+                if (++count % STREAM_FLUSH_SIZE == 0)
+                    generator.flush(); // 일정 개수마다 클라이언트로 내보냄
             }
+            generator.writeEndArray();
         }
-
-        if (filteredChatRooms.isEmpty()) {
-            return null;
-        }
-
-        return filteredChatRooms.stream().map(FilteredRoomInfoDto::new).collect(Collectors.toList());
     }
 
     // 필터 조회
@@ -185,13 +263,10 @@ public class ChatRoomService {
     public List<FilterInfo> updateFilterInfo(List<FilterInfoDto> filters) throws Exception {
         Member member = memberRepository.findByMemberEmail(SecurityUtil.getLoginUsername()).orElseThrow(()->new MemberException(MemberExceptionType.NOT_FOUND_MEMBER));
 
-        List<Long> toDeleteIds = member.getFilterList().stream().map(filterInfo -> filterInfo.getFilterId()).collect(Collectors.toList());
-        if(toDeleteIds != null && !toDeleteIds.isEmpty()){ // 기존에 필터 목록이 있다면
-            for(Long id : toDeleteIds)
-                filterInfoRepository.deleteById(id); // 이전 필터 정보 모두 삭제
-        }
+        filterInfoRepository.deleteAllByUid(member.getUid()); // 이전 필터 정보 한 번에 삭제 (기존 목록 로딩 X)
 
         List<FilterInfo> filterInfoList = filters.stream().map(filterInfoDto -> filterInfoDto.toEntity(member)).collect(Collectors.toList());
+        filterInfoRepository.saveAll(filterInfoList); // flush 시 batch insert
         member.updateFilterInfo(filterInfoList); // 새로운 필터 목록 저장
 
         return filterInfoList;
@@ -199,60 +274,27 @@ public class ChatRoomService {
 
     // 모집방 나가기
     public Boolean exitChatRoom(Long roodId, Long uid) throws Exception {
-        Boolean result = false;
         Member member = memberRepository.findById(uid).orElseThrow(()->new MemberException(MemberExceptionType.NOT_FOUND_MEMBER));
         ChatRoom chatRoom = chatRoomRepository.findById(roodId).orElseThrow(()->new RuntimeException("존재하지 않는 모집방입니다."));
         MemberChatRoom memberChatRoom = memberChatRoomRepository.findMemberChatRoomByChatRoomAndAndJoiner(chatRoom, member).orElseThrow(()->new RuntimeException("잘못된 모집방 가입 정보입니다"));
 
-        if(memberChatRoom != null){
-            member.deleteChatRoom(memberChatRoom); // member의 참여 모집방 목록에서 해당 모집방 삭제
-            chatRoom.deleteParticipant(memberChatRoom); // chatRoom의 참여자 목록에서 해당 참여자 삭제
-            if(chatRoom.getCurrentNum() == 0) {
-                chatRoomRepository.delete(chatRoom); // 마지막 참여자인 경우 모집방 삭제
-            }
-            result = true;
+        member.deleteChatRoom(memberChatRoom); // member의 참여 모집방 목록에서 해당 모집방 삭제
+        chatRoom.detachParticipant(memberChatRoom); // chatRoom의 참여자 목록에서 해당 참여자 삭제
+        memberChatRoomRepository.delete(memberChatRoom); // 참여 정보 삭제
+        // 참여 인원 감소 (엔티티 값이 아닌 카운터 값 기준), 마지막 참여자인 경우 모집방 삭제
+        if(roomSeatCounter.release(roodId) && chatRoomRepository.deleteIfNoParticipants(roodId) > 0) {
+            roomSeatCounter.evict(roodId);
+            roomNotificationService.cancel(roodId); // 예약된 종료 알림 취소
         }
+        eventPublisher.publishEvent(new ChatRoomChangedEvent(roodId));
 
-        return result;
+        return true;
     }
 
-    // 종료시간에 참여자들에게 알림을 보내도록 예약
+    // 종료시간 30분 전에 참여자들에게 알림을 보내도록 예약
     public void reserveNotification(Long roomId, LocalDate date, LocalTime time) throws Exception{
-        Calendar endAt = Calendar.getInstance();
-        endAt.set(date.getYear(), date.getMonth().getValue()-1, date.getDayOfMonth(), time.getHour(), time.getMinute()-30);
-        //endAt.set(2023,7,17,0,56);
-        Date taskTime = new Date(endAt.getTimeInMillis());
-        Timer timer = new Timer();
-        timer.schedule(new TimerTask() {
-            @Override
-            public void run() {
-                //종료시간에 모집방id를 주제로 메시지(알림)을 전송하도록 작업 예약
-                String topic = roomId.toString();
-                Message message = Message.builder()
-                        //.setNotification(Notification.builder().setTitle("제목" + topic).setBody("내용이다.").build())
-                        //.setAndroidConfig(AndroidConfig.builder().setNotification(AndroidNotification.builder().setClickAction("FCM_EXE_ACTIVITY").build()).build())
-                        //.putData("click_action", "FCM_EXE_ACTIVITY")
-                        .putData("roomId", roomId.toString())
-                        .setTopic(topic)
-                        .build();
-
-                try{
-                    FirebaseMessaging.getInstance().send(message);
-                }catch (FirebaseMessagingException e){
-                    throw new RuntimeException(e);
-                }
-            }
-        }, taskTime);
-    }
-
-    // 모집방 삭제
-    @Scheduled(cron = "0 0 0 * * ?") // 매일 밤 자정에 동작
-    public void deleteExpiredRooms() {
-        Specification<ChatRoom> specification = ChatRoomSpecification.filterExpiredChatRooms();
-        List<ChatRoom> expiredChatRooms = chatRoomRepository.findAll(specification); // 모임날짜가 현재 날짜보다 이전인 모집방 검색
-        if(!expiredChatRooms.isEmpty()){
-            chatRoomRepository.deleteAll(expiredChatRooms); // 데이터베이스에서 삭제
-        }
+        LocalDateTime dueAt = LocalDateTime.of(date, time).minusMinutes(30);
+        roomNotificationService.reserve(roomId, dueAt); // 모집방id를 주제로 메시지(알림) 전송 예약
     }
 
 }
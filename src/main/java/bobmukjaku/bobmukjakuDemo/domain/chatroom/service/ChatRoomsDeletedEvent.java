@@ -0,0 +1,25 @@
+package bobmukjaku.bobmukjakuDemo.domain.chatroom.service;
+
+import bobmukjaku.bobmukjakuDemo.global.cache.CachedEntity;
+import bobmukjaku.bobmukjakuDemo.global.cache.EntityChangedEvent;
+
+import java.util.List;
+
+// 만료된 모집방 정리처럼 여러 모집방을 일괄 삭제했을 때 chunk마다 한 번 발행
+public record ChatRoomsDeletedEvent(List<Long> roomIds) implements EntityChangedEvent {
+
+    @Override
+    public CachedEntity entity() {
+        return CachedEntity.CHAT_ROOM;
+    }
+
+    @Override
+    public Long id() {
+        return null;
+    }
+
+    @Override
+    public List<Long> ids() {
+        return roomIds;
+    }
+}
@@ -0,0 +1,32 @@
+package bobmukjaku.bobmukjakuDemo.domain.chatroom.service;
+
+import bobmukjaku.bobmukjakuDemo.domain.chatroom.repository.ChatRoomRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// chatroom.current_num을 직접 증감하는 기본 카운터 (호출한 쪽 트랜잭션 안에서 실행)
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.seat-counter.mode", havingValue = "database", matchIfMissing = true)
+public class DatabaseRoomSeatCounter implements RoomSeatCounter {
+
+    private final ChatRoomRepository chatRoomRepository;
+
+    @Override
+    public boolean tryAcquire(Long roomId) {
+        return chatRoomRepository.increaseCurrentNum(roomId) > 0;
+    }
+
+    @Override
+    public boolean release(Long roomId) {
+        chatRoomRepository.decreaseCurrentNum(roomId);
+        return chatRoomRepository.findCurrentNum(roomId).map(currentNum -> currentNum == 0).orElse(false);
+    }
+
+    @Override
+    public void evict(Long roomId) {
+        // DB 행과 함께 삭제되므로 정리할 것 없음
+    }
+
+}
@@ -0,0 +1,105 @@
+package bobmukjaku.bobmukjakuDemo.domain.chatroom.service;
+
+import bobmukjaku.bobmukjakuDemo.domain.chatroom.repository.ChatRoomRepository;
+import bobmukjaku.bobmukjakuDemo.domain.memberchatroom.repository.MemberChatRoomRepository;
+import bobmukjaku.bobmukjakuDemo.domain.notification.service.RoomNotificationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+public class ExpiredRoomCleanupJob {
+
+    /*
+    * 만료된 모집방 삭제
+    * - 모임 날짜가 오늘 이전인 모집방 id를 id 순으로 CHUNK_SIZE개씩 조회
+    * - chunk마다 별도 트랜잭션으로 member_chatroom -> chatroom 순서로 일괄 삭제 (엔티티 로딩 X)
+    * - JPQL 일괄 삭제는 ChatRoomChangedEvent를 거치지 않으므로 chunk마다 삭제한 id 목록으로 ChatRoomsDeletedEvent를 한 번 발행
+    *   (커밋 후 이 노드의 읽기 모델 반영 + CacheInvalidationBus로 다른 노드에 전달), 좌석 카운터도 커밋 후 함께 정리
+    * - 한 번에 잡는 락 범위가 작으므로 자정 한 번이 아니라 주기적으로 실행
+    * */
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final MemberChatRoomRepository memberChatRoomRepository;
+    private final RoomNotificationService roomNotificationService;
+    private final RoomSeatCounter roomSeatCounter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter deletedRoomCounter;
+    private final Counter deletedParticipantCounter;
+    private final Timer runTimer;
+    private final AtomicLong lastDeletedRooms = new AtomicLong(); // 마지막 실행에서 삭제한 모집방 수
+
+    public ExpiredRoomCleanupJob(ChatRoomRepository chatRoomRepository, MemberChatRoomRepository memberChatRoomRepository,
+                                 RoomNotificationService roomNotificationService, RoomSeatCounter roomSeatCounter,
+                                 ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.memberChatRoomRepository = memberChatRoomRepository;
+        this.roomNotificationService = roomNotificationService;
+        this.roomSeatCounter = roomSeatCounter;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.deletedRoomCounter = Counter.builder("chatroom.cleanup.deleted.rooms").register(meterRegistry);
+        this.deletedParticipantCounter = Counter.builder("chatroom.cleanup.deleted.participants").register(meterRegistry);
+        this.runTimer = Timer.builder("chatroom.cleanup.duration").register(meterRegistry);
+        meterRegistry.gauge("chatroom.cleanup.last.deleted.rooms", lastDeletedRooms);
+    }
+
+    // 10분마다 만료된 모집방 삭제
+    @Scheduled(cron = "0 */10 * * * ?")
+    public void deleteExpiredRooms() {
+        runTimer.record(() -> {
+            long deleted = deleteExpiredRoomsBefore(LocalDate.now());
+            lastDeletedRooms.set(deleted);
+            if (deleted > 0)
+                log.info("만료된 모집방 {}개를 삭제했습니다.", deleted);
+        });
+    }
+
+    // 모임 날짜가 date 이전인 모집방을 chunk 단위로 삭제하고 삭제한 모집방 수 반환
+    public long deleteExpiredRoomsBefore(LocalDate date) {
+        long deletedRooms = 0;
+        long lastId = 0L;
+        while (true) {
+            List<Long> roomIds = chatRoomRepository.findExpiredRoomIds(date, lastId, PageRequest.of(0, CHUNK_SIZE));
+            if (roomIds.isEmpty())
+                break;
+
+            Integer deleted = transactionTemplate.execute(status -> {
+                int participants = memberChatRoomRepository.deleteAllByChatRoomIds(roomIds);
+                int rooms = chatRoomRepository.deleteAllByChatRoomIds(roomIds);
+                roomNotificationService.cancelAll(roomIds); // 남아있는 알림 취소
+                eventPublisher.publishEvent(new ChatRoomsDeletedEvent(roomIds));
+                deletedParticipantCounter.increment(participants);
+                return rooms;
+            });
+            roomSeatCounter.evictAll(roomIds); // 커밋된 뒤 정리 (실패해서 롤백되면 카운터 유지)
+            deletedRooms += (deleted == null) ? 0 : deleted;
+            deletedRoomCounter.increment((deleted == null) ? 0 : deleted);
+            lastId = roomIds.get(roomIds.size() - 1);
+
+            if (roomIds.size() < CHUNK_SIZE)
+                break;
+        }
+        return deletedRooms;
+    }
+
+}
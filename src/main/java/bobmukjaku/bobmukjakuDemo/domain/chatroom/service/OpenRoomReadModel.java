@@ -0,0 +1,346 @@
+package bobmukjaku.bobmukjakuDemo.domain.chatroom.service;
+
+import bobmukjaku.bobmukjakuDemo.domain.chatroom.FilterInfo;
+import bobmukjaku.bobmukjakuDemo.domain.chatroom.dto.ChatRoomJoinerDto;
+import bobmukjaku.bobmukjakuDemo.domain.chatroom.dto.FilteredRoomInfoDto;
+import bobmukjaku.bobmukjakuDemo.domain.chatroom.dto.OpenRoomSnapshot;
+import bobmukjaku.bobmukjakuDemo.domain.chatroom.repository.ChatRoomRepository;
+import bobmukjaku.bobmukjakuDemo.domain.friend.UidSet;
+import bobmukjaku.bobmukjakuDemo.domain.member.TimeTableMask;
+import bobmukjaku.bobmukjakuDemo.domain.memberchatroom.repository.MemberChatRoomRepository;
+import bobmukjaku.bobmukjakuDemo.global.cache.CachedEntity;
+import bobmukjaku.bobmukjakuDemo.global.cache.LocalCacheInvalidator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class OpenRoomReadModel implements LocalCacheInvalidator {
+
+    /*
+    * 참여 가능한 모집방(자리 남음 + 모임 날짜가 지나지 않음) 읽기 모델
+    * - roomId -> 스냅샷 맵 + 모임 날짜별, 음식 종류별 보조 인덱스를 하나의 불변 객체로 보관
+    * - 변경 시 새 객체를 만들어 교체하므로 조회는 락 없이 처리
+    * - ChatRoomChangedEvent가 커밋된 뒤 해당 방만 DB에서 다시 읽어 반영, 주기적으로 전체 다시 적재
+    * - 일괄 삭제(ChatRoomsDeletedEvent)는 chunk의 방들을 한 번에 다시 읽어 인덱스를 한 번만 교체
+    * - 다른 노드의 변경은 CacheInvalidationBus를 통해 같은 방식으로 반영
+    * - DB를 읽기 전에 번호를 받고, 같은 방에 더 늦게 시작한 읽기가 이미 반영됐으면 버림 (비동기 반영 순서가 뒤바뀌어도 최신 상태 유지)
+    * app.open-room-read-model.enabled=true일 때만 사용
+    * */
+
+    private static final Comparator<OpenRoomSnapshot> BY_ROOM_ID = Comparator.comparing(OpenRoomSnapshot::roomId);
+    private static final Comparator<OpenRoomSnapshot> LATEST = Comparator.comparing(OpenRoomSnapshot::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(OpenRoomSnapshot::roomId, Comparator.reverseOrder());
+    private static final Comparator<OpenRoomSnapshot> OLDEST = Comparator.comparing(OpenRoomSnapshot::createdAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(OpenRoomSnapshot::roomId);
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final MemberChatRoomRepository memberChatRoomRepository;
+    private final boolean enabled;
+
+    private volatile Index index = Index.of(List.of());
+    private final Object writeLock = new Object();
+    private boolean reloading;
+    private final Set<Long> changedDuringReload = new HashSet<>();
+    private final AtomicLong readSequence = new AtomicLong();
+    private long loadedReadNo; // 현재 인덱스를 만든 전체 적재의 읽기 번호
+    private final Map<Long, Long> appliedReadNos = new HashMap<>(); // 전체 적재 이후 방별로 반영된 읽기 번호
+
+    public OpenRoomReadModel(ChatRoomRepository chatRoomRepository, MemberChatRoomRepository memberChatRoomRepository,
+                             @Value("${app.open-room-read-model.enabled:false}") boolean enabled) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.memberChatRoomRepository = memberChatRoomRepository;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 전체 다시 적재 (시작 시 + 5분마다, 만료된 방 정리 겸 누락된 이벤트 보정)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelay = 300_000, initialDelay = 300_000)
+    public void reload() {
+        if (!enabled) return;
+        synchronized (writeLock) {
+            reloading = true;
+            changedDuringReload.clear();
+        }
+
+        long readNo = readSequence.incrementAndGet();
+        List<OpenRoomSnapshot> rooms;
+        try {
+            rooms = loadOpenRooms();
+        } catch (RuntimeException e) {
+            synchronized (writeLock) {
+                reloading = false;
+            }
+            throw e;
+        }
+
+        Set<Long> changed;
+        synchronized (writeLock) {
+            index = Index.of(rooms);
+            loadedReadNo = readNo;
+            appliedReadNos.clear();
+            reloading = false;
+            changed = new HashSet<>(changedDuringReload);
+        }
+        changed.forEach(this::refresh); // 적재 중에 바뀐 방은 다시 반영
+        log.info("참여 가능한 모집방 읽기 모델 적재 ({}개)", rooms.size());
+    }
+
+    private List<OpenRoomSnapshot> loadOpenRooms() {
+        LocalDate today = LocalDate.now();
+        Map<Long, List<Long>> joiners = memberChatRoomRepository.findOpenRoomJoiners(today).stream()
+                .collect(Collectors.groupingBy(ChatRoomJoinerDto::roomId, Collectors.mapping(ChatRoomJoinerDto::uid, Collectors.toList())));
+        return chatRoomRepository.findOpenRoomInfo(today).stream()
+                .map(room -> OpenRoomSnapshot.of(room, joiners.getOrDefault(room.getRoomId(), List.of())))
+                .toList();
+    }
+
+    // 모집방 변경이 커밋된 뒤 해당 방만 다시 읽어 반영 (요청 스레드와 분리)
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onChatRoomChanged(ChatRoomChangedEvent event) {
+        if (enabled) refresh(event.roomId());
+    }
+
+    // 일괄 삭제가 커밋된 뒤 삭제된 방들 제거
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onChatRoomsDeleted(ChatRoomsDeletedEvent event) {
+        if (enabled) refreshAll(event.roomIds());
+    }
+
+    // 다른 노드에서 바뀐 모집방 반영
+    @Override
+    public CachedEntity entity() {
+        return CachedEntity.CHAT_ROOM;
+    }
+
+    @Override
+    public void invalidate(Long roomId) {
+        if (!enabled) return;
+        if (roomId == null) reload();
+        else refresh(roomId);
+    }
+
+    @Override
+    public void invalidateAll(Collection<Long> roomIds) {
+        if (enabled) refreshAll(roomIds);
+    }
+
+    void refresh(Long roomId) {
+        long readNo = nextReadNo();
+        LocalDate today = LocalDate.now();
+        OpenRoomSnapshot snapshot = chatRoomRepository.findRoomInfo(roomId)
+                .map(room -> OpenRoomSnapshot.of(room, memberChatRoomRepository.findJoinerUids(roomId)))
+                .filter(room -> room.isOpen(today))
+                .orElse(null);
+        apply(roomId, snapshot, readNo);
+    }
+
+    // 여러 방을 두 번의 조회로 다시 읽어 반영 (없거나 참여할 수 없는 방은 제거)
+    void refreshAll(Collection<Long> roomIds) {
+        if (roomIds.isEmpty()) return;
+        long readNo = nextReadNo();
+        LocalDate today = LocalDate.now();
+        Map<Long, List<Long>> joiners = memberChatRoomRepository.findJoiners(roomIds).stream()
+                .collect(Collectors.groupingBy(ChatRoomJoinerDto::roomId, Collectors.mapping(ChatRoomJoinerDto::uid, Collectors.toList())));
+        Map<Long, OpenRoomSnapshot> snapshots = new HashMap<>();
+        roomIds.forEach(roomId -> snapshots.put(roomId, null));
+        chatRoomRepository.findRoomInfos(roomIds).stream()
+                .map(room -> OpenRoomSnapshot.of(room, joiners.getOrDefault(room.getRoomId(), List.of())))
+                .filter(room -> room.isOpen(today))
+                .forEach(room -> snapshots.put(room.roomId(), room));
+        applyAll(snapshots, readNo);
+    }
+
+    long nextReadNo() {
+        return readSequence.incrementAndGet();
+    }
+
+    // 읽기 번호가 readNo인 스냅샷 반영 (나중에 시작한 읽기가 이미 반영됐으면 무시, snapshot이 null이면 제거)
+    void apply(Long roomId, OpenRoomSnapshot snapshot, long readNo) {
+        synchronized (writeLock) {
+            if (reloading) changedDuringReload.add(roomId);
+            if (readNo < loadedReadNo || readNo < appliedReadNos.getOrDefault(roomId, 0L))
+                return;
+            appliedReadNos.put(roomId, readNo);
+            index = index.with(roomId, snapshot);
+        }
+    }
+
+    // 읽기 번호가 readNo인 여러 방의 스냅샷을 한 번에 반영 (방마다 apply와 같은 규칙)
+    void applyAll(Map<Long, OpenRoomSnapshot> snapshots, long readNo) {
+        synchronized (writeLock) {
+            if (reloading) changedDuringReload.addAll(snapshots.keySet());
+            if (readNo < loadedReadNo)
+                return;
+            Map<Long, OpenRoomSnapshot> changed = new HashMap<>();
+            snapshots.forEach((roomId, snapshot) -> {
+                if (readNo < appliedReadNos.getOrDefault(roomId, 0L))
+                    return;
+                appliedReadNos.put(roomId, readNo);
+                changed.put(roomId, snapshot);
+            });
+            index = index.withAll(changed);
+        }
+    }
+
+    // 테스트, 적재용
+    void replaceAll(Collection<OpenRoomSnapshot> rooms) {
+        synchronized (writeLock) {
+            index = Index.of(rooms);
+            loadedReadNo = readSequence.incrementAndGet();
+            appliedReadNos.clear();
+        }
+    }
+
+    public Optional<OpenRoomSnapshot> find(Long roomId) {
+        return Optional.ofNullable(index.rooms().get(roomId));
+    }
+
+    public int size() {
+        return index.rooms().size();
+    }
+
+    /*
+    * ChatRoomSpecification.createSpecification + ChatRoomRepositoryImpl.findFilteredRoomInfo와 같은 조건을 메모리에서 처리
+    * - 모임 날짜, 음식 종류 필터가 있으면 보조 인덱스로 후보를 좁힘
+    * - 차단 사용자가 참여 중인 방 제외, 친구가 참여 중인 방은 hasFriend 1
+    * */
+    public List<FilteredRoomInfoDto> filter(List<FilterInfo> filters, Function<Long, TimeTableMask> timeTableLoader,
+                                            UidSet friendUids, UidSet blockUids) {
+        Index current = index;
+        LocalDate today = LocalDate.now();
+        Collection<OpenRoomSnapshot> candidates = current.rooms().values();
+        Predicate<OpenRoomSnapshot> condition = room -> room.isOpen(today) && !room.hasParticipantIn(blockUids);
+        Comparator<OpenRoomSnapshot> order = BY_ROOM_ID;
+
+        for (FilterInfo filter : filters) {
+            String value = filter.getFilterValue();
+            switch (filter.getFilterType()) {
+                case "latest" -> order = LATEST;
+                case "oldest" -> order = OLDEST;
+                case "meetingDate" -> {
+                    LocalDate date = LocalDate.parse(value);
+                    candidates = smaller(candidates, current.byMeetingDate().getOrDefault(date, List.of()));
+                    condition = condition.and(room -> date.equals(room.meetingDate()));
+                }
+                case "kindOfFood" -> {
+                    candidates = smaller(candidates, current.byKindOfFood().getOrDefault(value, List.of()));
+                    condition = condition.and(room -> value.equals(room.kindOfFood()));
+                }
+                case "total" -> {
+                    int total = Integer.parseInt(value);
+                    condition = condition.and(room -> room.total() == total);
+                }
+                case "timeTable" -> {
+                    TimeTableMask timeTableMask = timeTableLoader.apply(Long.valueOf(value));
+                    if (!timeTableMask.isEmpty()) // time_slot NOT IN (...)과 같이 시작 시간이 없는 방도 제외
+                        condition = condition.and(room -> room.startTime() != null && !timeTableMask.conflicts(room.meetingDate(), room.startTime()));
+                }
+                default -> { } // 유효하지 않은 필터는 무시
+            }
+        }
+
+        return candidates.stream()
+                .filter(condition)
+                .sorted(order)
+                .map(room -> room.toFilteredDto(room.hasParticipantIn(friendUids) ? 1 : 0))
+                .collect(Collectors.toList());
+    }
+
+    private static Collection<OpenRoomSnapshot> smaller(Collection<OpenRoomSnapshot> a, Collection<OpenRoomSnapshot> b) {
+        return a.size() <= b.size() ? a : b;
+    }
+
+    // 불변 인덱스 (변경 시 새로 만듦)
+    private record Index(Map<Long, OpenRoomSnapshot> rooms,
+                         Map<LocalDate, List<OpenRoomSnapshot>> byMeetingDate,
+                         Map<String, List<OpenRoomSnapshot>> byKindOfFood) {
+
+        static Index of(Collection<OpenRoomSnapshot> snapshots) {
+            Map<Long, OpenRoomSnapshot> rooms = new HashMap<>();
+            Map<LocalDate, List<OpenRoomSnapshot>> byMeetingDate = new HashMap<>();
+            Map<String, List<OpenRoomSnapshot>> byKindOfFood = new HashMap<>();
+            for (OpenRoomSnapshot room : snapshots) {
+                rooms.put(room.roomId(), room);
+                if (room.meetingDate() != null)
+                    byMeetingDate.computeIfAbsent(room.meetingDate(), date -> new ArrayList<>()).add(room);
+                if (room.kindOfFood() != null)
+                    byKindOfFood.computeIfAbsent(room.kindOfFood(), food -> new ArrayList<>()).add(room);
+            }
+            return new Index(Collections.unmodifiableMap(rooms), byMeetingDate, byKindOfFood);
+        }
+
+        // roomId의 스냅샷을 교체한 새 인덱스 (snapshot이 null이면 제거)
+        // 보조 인덱스는 바뀐 방이 속한 날짜, 음식 종류 목록만 새로 만들고 나머지 목록은 그대로 공유
+        Index with(Long roomId, OpenRoomSnapshot snapshot) {
+            OpenRoomSnapshot previous = rooms.get(roomId);
+            if (snapshot == null && previous == null)
+                return this;
+            Map<Long, OpenRoomSnapshot> changed = new HashMap<>(rooms);
+            if (snapshot == null) changed.remove(roomId);
+            else changed.put(roomId, snapshot);
+            return new Index(Collections.unmodifiableMap(changed),
+                    withBucket(byMeetingDate, OpenRoomSnapshot::meetingDate, previous, snapshot),
+                    withBucket(byKindOfFood, OpenRoomSnapshot::kindOfFood, previous, snapshot));
+        }
+
+        // 여러 방의 스냅샷을 교체한 새 인덱스 (방마다 with를 반복하지 않고 보조 인덱스를 한 번만 새로 만듦)
+        Index withAll(Map<Long, OpenRoomSnapshot> snapshots) {
+            if (snapshots.isEmpty())
+                return this;
+            if (snapshots.size() == 1) {
+                Map.Entry<Long, OpenRoomSnapshot> only = snapshots.entrySet().iterator().next();
+                return with(only.getKey(), only.getValue());
+            }
+            Map<Long, OpenRoomSnapshot> changed = new HashMap<>(rooms);
+            snapshots.forEach((roomId, snapshot) -> {
+                if (snapshot == null) changed.remove(roomId);
+                else changed.put(roomId, snapshot);
+            });
+            return of(changed.values());
+        }
+
+        private static <K> Map<K, List<OpenRoomSnapshot>> withBucket(Map<K, List<OpenRoomSnapshot>> buckets,
+                                                                   Function<OpenRoomSnapshot, K> key,
+                                                                   OpenRoomSnapshot previous, OpenRoomSnapshot snapshot) {
+            K previousKey = previous == null ? null : key.apply(previous);
+            K newKey = snapshot == null ? null : key.apply(snapshot);
+            if (previousKey == null && newKey == null)
+                return buckets;
+            Map<K, List<OpenRoomSnapshot>> changed = new HashMap<>(buckets);
+            if (previousKey != null) {
+                List<OpenRoomSnapshot> bucket = new ArrayList<>(changed.get(previousKey));
+                bucket.removeIf(room -> room.roomId().equals(previous.roomId()));
+                if (bucket.isEmpty()) changed.remove(previousKey);
+                else changed.put(previousKey, bucket);
+            }
+            if (newKey != null) {
+                List<OpenRoomSnapshot> bucket = new ArrayList<>(changed.getOrDefault(newKey, List.of()));
+                bucket.add(snapshot);
+                changed.put(newKey, bucket);
+            }
+            return changed;
+        }
+    }
+
+}
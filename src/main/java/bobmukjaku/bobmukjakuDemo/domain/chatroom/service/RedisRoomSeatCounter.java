@@ -0,0 +1,277 @@
+package bobmukjaku.bobmukjakuDemo.domain.chatroom.service;
+
+import bobmukjaku.bobmukjakuDemo.domain.chatroom.dto.ChatRoomSeatDto;
+import bobmukjaku.bobmukjakuDemo.domain.chatroom.repository.ChatRoomRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.seat-counter.mode", havingValue = "redis")
+public class RedisRoomSeatCounter implements RoomSeatCounter {
+
+    /*
+    * Redis 좌석 카운터 (write-behind)
+    * - chatroom:seat:{roomId} 해시에 current, total 저장, 정원 검사와 증감은 Lua 스크립트 한 번으로 처리
+    * - 값이 바뀐 방 id는 chatroom:seat:dirty 집합에 모아뒀다가 주기적으로 chatroom.current_num에 일괄 반영
+    * - 해시의 version은 값이 바뀔 때마다 1씩 증가 (적재 시 chatroom.seat_version에서 시작), 반영할 때 DB보다 오래된 version이면 쓰지 않음
+    *   (느린 노드가 먼저 읽어둔 값으로 다른 노드가 반영한 최신 값을 덮어쓰지 않도록)
+    * - 키가 없으면 DB 값으로 적재, 참여/나가기 트랜잭션이 롤백되면 증감을 되돌림
+    * - 살아 있는 노드가 없을 때(cold start)만 시작 시 current_num을 실제 참여 정보 수로 보정하고 Redis 키를 비움
+    *   (다른 노드가 처리 중인 참여가 있으면 DB 참여 수에 아직 없으므로 초기화하면 정원을 넘을 수 있음)
+    * - 살아 있는 노드는 flush 때마다 chatroom:seat:heartbeat를 갱신, 보정은 chatroom:seat:reconcile 락 안에서 한 노드만 수행
+    * - app.seat-counter.reconcile-on-startup=false이면 시작 보정을 하지 않음 (공유 DB/Redis를 쓰는 테스트용)
+    * */
+
+    static final String SEAT_KEY_PREFIX = "chatroom:seat:";
+    static final String DIRTY_KEY = "chatroom:seat:dirty"; // DB에 아직 반영 안 된 방 id
+    static final String ROOMS_KEY = "chatroom:seat:rooms"; // 적재된 방 id
+    static final String HEARTBEAT_KEY = "chatroom:seat:heartbeat"; // 좌석 카운터를 쓰는 노드가 살아 있음
+    static final String RECONCILE_LOCK_KEY = "chatroom:seat:reconcile";
+    private static final long HEARTBEAT_TTL_SECONDS = 30;
+    private static final long RECONCILE_LOCK_SECONDS = 60;
+    private static final String CURRENT = "current";
+    private static final String VERSION = "version";
+    private static final long SEAT_TTL_SECONDS = TimeUnit.DAYS.toSeconds(1); // 만료된 방 키 정리용
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    // 키 없음 -1, 정원 초과 0, 확보 1
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('HGET', KEYS[1], 'current') " +
+            "if not current then return -1 end " +
+            "if tonumber(current) >= tonumber(redis.call('HGET', KEYS[1], 'total')) then return 0 end " +
+            "redis.call('HINCRBY', KEYS[1], 'current', 1) " +
+            "redis.call('HINCRBY', KEYS[1], 'version', 1) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+            "redis.call('SADD', KEYS[2], ARGV[1]) " +
+            "return 1", Long.class);
+
+    // 키 없음 -1, 이미 0명 -2, 그 외 반납 후 남은 인원
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('HGET', KEYS[1], 'current') " +
+            "if not current then return -1 end " +
+            "if tonumber(current) <= 0 then return -2 end " +
+            "local left = redis.call('HINCRBY', KEYS[1], 'current', -1) " +
+            "redis.call('HINCRBY', KEYS[1], 'version', 1) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+            "redis.call('SADD', KEYS[2], ARGV[1]) " +
+            "return left", Long.class);
+
+    // 롤백 시 증감 되돌리기 (ARGV[2] 만큼 더함)
+    private static final RedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+            "local current = redis.call('HINCRBY', KEYS[1], 'current', ARGV[2]) " +
+            "redis.call('HINCRBY', KEYS[1], 'version', 1) " +
+            "redis.call('SADD', KEYS[2], ARGV[1]) " +
+            "return current", Long.class);
+
+    // 키가 없을 때만 DB 값으로 적재 (동시에 적재해도 먼저 들어간 값 유지)
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "redis.call('HSET', KEYS[1], 'current', ARGV[2], 'total', ARGV[3], 'version', ARGV[5]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[4]) " +
+            "redis.call('SADD', KEYS[2], ARGV[1]) " +
+            "return 1", Long.class);
+
+    // 자기가 건 락만 해제
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ChatRoomRepository chatRoomRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Counter flushedCounter;
+    private final Counter flushFailedCounter;
+    private final boolean reconcileOnStartup;
+    private volatile boolean started; // 시작 보정 판단이 끝난 뒤부터 heartbeat 갱신 (스케줄러가 먼저 돌아도 자기 heartbeat를 보지 않도록)
+
+    public RedisRoomSeatCounter(StringRedisTemplate redisTemplate, ChatRoomRepository chatRoomRepository,
+                                JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                                @Value("${app.seat-counter.reconcile-on-startup:true}") boolean reconcileOnStartup) {
+        this.redisTemplate = redisTemplate;
+        this.chatRoomRepository = chatRoomRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushedCounter = Counter.builder("chatroom.seat.flushed").register(meterRegistry);
+        this.flushFailedCounter = Counter.builder("chatroom.seat.flush.failed").register(meterRegistry);
+        this.reconcileOnStartup = reconcileOnStartup;
+        meterRegistry.gauge("chatroom.seat.dirty", this, counter -> counter.dirtySize());
+    }
+
+    @Override
+    public boolean tryAcquire(Long roomId) {
+        Long result = execute(ACQUIRE_SCRIPT, roomId);
+        if (result == -1) {
+            if (!load(roomId)) return false; // 없는 방
+            result = execute(ACQUIRE_SCRIPT, roomId);
+        }
+        if (result != 1) return false;
+        adjustOnRollback(roomId, -1);
+        return true;
+    }
+
+    @Override
+    public boolean release(Long roomId) {
+        Long left = execute(RELEASE_SCRIPT, roomId);
+        if (left == -1) {
+            if (!load(roomId)) return false;
+            left = execute(RELEASE_SCRIPT, roomId);
+        }
+        if (left == -2) return true; // 반납할 자리가 없음 (이미 빈 방)
+        adjustOnRollback(roomId, 1);
+        return left == 0;
+    }
+
+    @Override
+    public void evict(Long roomId) {
+        redisTemplate.delete(SEAT_KEY_PREFIX + roomId);
+        redisTemplate.opsForSet().remove(ROOMS_KEY, String.valueOf(roomId));
+    }
+
+    // 방마다 따로 보내지 않고 DEL, SREM 한 번씩으로 정리
+    @Override
+    public void evictAll(Collection<Long> roomIds) {
+        if (roomIds.isEmpty()) return;
+        redisTemplate.delete(roomIds.stream().map(roomId -> SEAT_KEY_PREFIX + roomId).toList());
+        redisTemplate.opsForSet().remove(ROOMS_KEY, roomIds.stream().map(String::valueOf).toArray());
+    }
+
+    // 변경된 좌석 수를 chatroom 테이블에 일괄 반영
+    @Scheduled(fixedDelayString = "${app.seat-counter.flush-interval-ms:1000}")
+    public void flush() {
+        if (started)
+            redisTemplate.opsForValue().set(HEARTBEAT_KEY, "1", HEARTBEAT_TTL_SECONDS, TimeUnit.SECONDS);
+        List<String> roomIds;
+        while (!(roomIds = redisTemplate.opsForSet().pop(DIRTY_KEY, FLUSH_BATCH_SIZE)).isEmpty()) {
+            // pop 이후에 바뀐 값은 스크립트가 다시 dirty에 넣으므로 다음 flush에서 반영됨
+            List<Object> seats = readSeats(roomIds);
+            List<Object[]> rows = new ArrayList<>();
+            for (int i = 0; i < roomIds.size(); i++) {
+                List<?> seat = (List<?>) seats.get(i);
+                if (seat.get(0) == null) // 그 사이 삭제된 방은 건너뜀
+                    continue;
+                long version = seat.get(1) == null ? 0L : Long.parseLong((String) seat.get(1));
+                rows.add(new Object[]{Integer.parseInt((String) seat.get(0)), version, Long.parseLong(roomIds.get(i)), version});
+            }
+            try {
+                // 같은 version이면 값도 같으므로 <= (다시 써도 결과 동일)
+                jdbcTemplate.batchUpdate("update chatroom set current_num = ?, seat_version = ? where id = ? and seat_version <= ?", rows);
+                flushedCounter.increment(rows.size());
+            } catch (RuntimeException e) {
+                log.warn("좌석 수 DB 반영 실패, 다음 주기에 재시도 (방 {}개)", roomIds.size(), e);
+                redisTemplate.opsForSet().add(DIRTY_KEY, roomIds.toArray(new String[0]));
+                flushFailedCounter.increment();
+                return;
+            }
+        }
+    }
+
+    // 시작 시 보정 (cold start일 때만): 남은 변경분 반영 -> current_num을 참여 정보 수로 맞춤 -> Redis 키 비움
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+        if (!reconcileOnStartup) {
+            started = true;
+            return;
+        }
+        String lockValue = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(RECONCILE_LOCK_KEY, lockValue, RECONCILE_LOCK_SECONDS, TimeUnit.SECONDS))) {
+            log.info("다른 노드가 좌석 카운터를 보정 중이므로 건너뜀");
+            started = true;
+            return;
+        }
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(HEARTBEAT_KEY))) {
+                log.info("좌석 카운터를 사용 중인 노드가 있으므로 보정 건너뜀");
+                return;
+            }
+            flush();
+            int synced = chatRoomRepository.syncCurrentNumWithParticipants();
+            Set<String> loadedRoomIds = redisTemplate.opsForSet().members(ROOMS_KEY);
+            if (loadedRoomIds != null && !loadedRoomIds.isEmpty())
+                redisTemplate.delete(loadedRoomIds.stream().map(roomId -> SEAT_KEY_PREFIX + roomId).toList());
+            redisTemplate.delete(List.of(ROOMS_KEY, DIRTY_KEY));
+            log.info("좌석 카운터 보정 완료 (모집방 {}개)", synced);
+        } finally {
+            // 락을 풀기 전에 heartbeat를 남겨 뒤이어 뜨는 노드가 다시 초기화하지 않게 함
+            started = true;
+            redisTemplate.opsForValue().set(HEARTBEAT_KEY, "1", HEARTBEAT_TTL_SECONDS, TimeUnit.SECONDS);
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(RECONCILE_LOCK_KEY), lockValue);
+        }
+    }
+
+    private Long execute(RedisScript<Long> script, Long roomId) {
+        return redisTemplate.execute(script, List.of(SEAT_KEY_PREFIX + roomId, DIRTY_KEY),
+                String.valueOf(roomId), String.valueOf(SEAT_TTL_SECONDS));
+    }
+
+    // DB 값으로 Redis에 적재 (없는 방이면 false)
+    private boolean load(Long roomId) {
+        return findSeat(roomId)
+                .map(seat -> {
+                    redisTemplate.execute(LOAD_SCRIPT, List.of(SEAT_KEY_PREFIX + roomId, ROOMS_KEY),
+                            String.valueOf(roomId), String.valueOf(seat.currentNum()), String.valueOf(seat.total()),
+                            String.valueOf(SEAT_TTL_SECONDS), String.valueOf(seat.seatVersion()));
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    // seat_version은 엔티티에 매핑하지 않으므로 (엔티티 저장이 덮어쓰지 않도록) 직접 조회
+    private Optional<ChatRoomSeatDto> findSeat(Long roomId) {
+        return jdbcTemplate.query("select id, current_num, total, seat_version from chatroom where id = ?",
+                (rs, rowNum) -> new ChatRoomSeatDto(rs.getLong("id"), rs.getInt("current_num"), rs.getInt("total"), rs.getLong("seat_version")),
+                roomId).stream().findFirst();
+    }
+
+    // 참여/나가기 트랜잭션이 롤백되면 Redis 증감도 되돌림
+    private void adjustOnRollback(Long roomId, int delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK)
+                    redisTemplate.execute(ADJUST_SCRIPT, List.of(SEAT_KEY_PREFIX + roomId, DIRTY_KEY),
+                            String.valueOf(roomId), String.valueOf(delta));
+            }
+        });
+    }
+
+    // 방마다 [current, version] (HMGET이므로 두 값은 같은 시점)
+    private List<Object> readSeats(List<String> roomIds) {
+        return redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String roomId : roomIds)
+                connection.hashCommands().hMGet((SEAT_KEY_PREFIX + roomId).getBytes(StandardCharsets.UTF_8),
+                        CURRENT.getBytes(StandardCharsets.UTF_8), VERSION.getBytes(StandardCharsets.UTF_8));
+            return null;
+        });
+    }
+
+    private double dirtySize() {
+        Long size = redisTemplate.opsForSet().size(DIRTY_KEY);
+        return size == null ? 0 : size;
+    }
+
+}
@@ -0,0 +1,27 @@
+package bobmukjaku.bobmukjakuDemo.domain.chatroom.service;
+
+import java.util.Collection;
+
+/*
+* 모집방 좌석(현재 인원) 카운터
+* - database (기본값): chatroom.current_num을 조건부 UPDATE로 바로 변경
+* - redis: Redis에서 Lua 스크립트로 증감하고 chatroom 테이블에는 모아서 늦게 반영
+* app.seat-counter.mode 값으로 선택
+* */
+public interface RoomSeatCounter {
+
+    // 정원이 남아있으면 한 자리 확보 (확보했으면 true, 정원 초과 또는 없는 방이면 false)
+    boolean tryAcquire(Long roomId);
+
+    // 한 자리 반납 (반납 후 방이 비었으면 true)
+    boolean release(Long roomId);
+
+    // 삭제된 모집방의 카운터 정리
+    void evict(Long roomId);
+
+    // 일괄 삭제된 모집방들의 카운터 정리
+    default void evictAll(Collection<Long> roomIds) {
+        roomIds.forEach(this::evict);
+    }
+
+}
@@ -0,0 +1,7 @@
+package bobmukjaku.bobmukjakuDemo.domain.chatting;
+
+import java.util.List;
+
+// 욕설 감지 서버 묶음 요청 본문 ({"messages": ["...", ...]})
+public record ProfanityBatchRequest(List<String> messages) {
+}
@@ -0,0 +1,15 @@
+package bobmukjaku.bobmukjakuDemo.domain.chatting;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+// 묶음 요청 결과 (요청한 메시지 순서대로)
+@Getter
+@Setter
+@NoArgsConstructor
+public class ProfanityBatchResponse {
+    private List<ProfanityResponse> results;
+}
@@ -0,0 +1,5 @@
+package bobmukjaku.bobmukjakuDemo.domain.chatting;
+
+// 욕설 감지 서버 요청 본문 ({"message": "..."})
+public record ProfanityRequest(String message) {
+}
@@ -8,6 +8,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequiredArgsConstructor
@@ -15,21 +16,12 @@ public class ChattingController {
 
     private final ChattingService chattingService;
 
-    // 메시지 전송
+    // 메시지 전송 (Mono 반환 -> 비동기 처리, 욕설 감지/파이어베이스 응답을 기다리는 동안 Tomcat 스레드 반환)
     @PutMapping("/message")
     @ResponseBody
-    public ResponseEntity<Object> sendMessageToFireBase(@RequestBody ChatModel md) throws Exception {
-        if(!md.getShareMessage()) {
-            //플라스크에 요청을 보내서 메시지 욕설 여부 확인
-            String message = md.getMessage();
-            if (chattingService.inspectBadWord(md.getMessage())) {
-                System.out.println("욕설감지\n");
-                md.setMessage("욕설을 감지하였습니다.");
-            }
-            System.out.println("일반메시지\n");
-        }
-        chattingService.sendMessageToFireBase(md);
-        return ResponseEntity.ok().build();
+    public Mono<ResponseEntity<Object>> sendMessageToFireBase(@RequestBody ChatModel md) {
+        return chattingService.sendMessage(md)
+                .thenReturn(ResponseEntity.ok().build());
     }
 
 }
@@ -0,0 +1,124 @@
+package bobmukjaku.bobmukjakuDemo.domain.chatting.profanity;
+
+final class JamoFolding {
+
+    /*
+    * 문자를 사전 비교용 기호로 접기
+    * - 한글 음절 -> 초성, 중성, (종성) 호환 자모로 분해
+    * - 된소리 -> 예사소리 (ㅆ -> ㅅ), 비슷한 모음 -> 하나로 (ㅐ -> ㅔ, ㅚ/ㅙ -> ㅞ)
+    * - 영문 -> 소문자, 전각 영문 -> 반각
+    * 결과는 최대 3글자를 long 하나에 담아 반환 (할당 없음)
+    * */
+
+    static final int SEPARATOR = 0; // 공백, 기호, 이모지 (건너뜀)
+    static final int HANGUL = 1; // 한글 음절, 호환 자모
+    static final int LATIN = 2;
+    static final int DIGIT = 3;
+    static final int OTHER = 4; // 그 밖의 문자 (사전에 없는 기호로 처리)
+
+    static final char UNKNOWN = '\uFFFF'; // 사전에 없는 기호
+
+    private static final char[] CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+    private static final char[] JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ".toCharArray();
+    private static final char[] JONGSEONG = "\0ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ".toCharArray();
+
+    private JamoFolding() {
+    }
+
+    static int classOf(char c) {
+        if ((c >= 0xAC00 && c <= 0xD7A3) || (c >= 0x3131 && c <= 0x3163)) return HANGUL;
+        if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= 0xFF21 && c <= 0xFF3A) || (c >= 0xFF41 && c <= 0xFF5A)) return LATIN;
+        if ((c >= '0' && c <= '9') || (c >= 0xFF10 && c <= 0xFF19)) return DIGIT;
+        if (Character.isLetter(c)) return OTHER;
+        return SEPARATOR;
+    }
+
+    // 접은 기호 개수 (packed의 상위 16비트)
+    static int count(long packed) {
+        return (int) (packed >>> 48);
+    }
+
+    // k번째 기호 (0 ~ 2)
+    static char charAt(long packed, int k) {
+        return (char) (packed >>> (16 * k));
+    }
+
+    static long fold(char c, int charClass) {
+        switch (charClass) {
+            case HANGUL -> {
+                if (c >= 0x3131 && c <= 0x3163) return pack(foldJamo(c));
+                int index = c - 0xAC00;
+                char cho = foldJamo(CHOSEONG[index / 588]);
+                char jung = foldJamo(JUNGSEONG[(index % 588) / 28]);
+                int jong = index % 28;
+                return jong == 0 ? pack(cho, jung) : pack(cho, jung, foldJamo(JONGSEONG[jong]));
+            }
+            case LATIN -> {
+                if (c >= 0xFF01) c = (char) (c - 0xFEE0); // 전각 -> 반각
+                return pack(Character.toLowerCase(c));
+            }
+            case DIGIT -> {
+                if (c >= 0xFF10) c = (char) (c - 0xFEE0);
+                return pack(c);
+            }
+            case OTHER -> {
+                return pack(UNKNOWN);
+            }
+            default -> {
+                return 0;
+            }
+        }
+    }
+
+    // 영문 사이에 섞인 숫자, 기호 (sh1t, f0ck, a$$) -> 영문자, 해당 없으면 0
+    static char leetToLatin(char c) {
+        return switch (c) {
+            case '0' -> 'o';
+            case '1', '!', '|' -> 'i';
+            case '3' -> 'e';
+            case '4', '@' -> 'a';
+            case '5', '$' -> 's';
+            case '7' -> 't';
+            default -> 0;
+        };
+    }
+
+    // 자음 뒤의 모음 대용 문자 (ㅅ1발, ㅅl발) -> ㅣ, 해당 없으면 0
+    static char leetToVowel(char c) {
+        return switch (c) {
+            case '1', 'l', 'I', '|', '!', 'i' -> 'ㅣ';
+            default -> 0;
+        };
+    }
+
+    static boolean isConsonant(char jamo) {
+        return jamo >= 0x3131 && jamo <= 0x314E;
+    }
+
+    static char foldJamo(char jamo) {
+        return switch (jamo) {
+            case 'ㄲ' -> 'ㄱ';
+            case 'ㄸ' -> 'ㄷ';
+            case 'ㅃ' -> 'ㅂ';
+            case 'ㅆ' -> 'ㅅ';
+            case 'ㅉ' -> 'ㅈ';
+            case 'ㅐ' -> 'ㅔ';
+            case 'ㅒ' -> 'ㅖ';
+            case 'ㅙ', 'ㅚ' -> 'ㅞ';
+            default -> jamo;
+        };
+    }
+
+    static long pack(char a) {
+        return (1L << 48) | a;
+    }
+
+    static long pack(char a, char b) {
+        return (2L << 48) | ((long) b << 16) | a;
+    }
+
+    static long pack(char a, char b, char c) {
+        return (3L << 48) | ((long) c << 32) | ((long) b << 16) | a;
+    }
+
+}
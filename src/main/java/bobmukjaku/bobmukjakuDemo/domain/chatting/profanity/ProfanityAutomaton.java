@@ -0,0 +1,195 @@
+package bobmukjaku.bobmukjakuDemo.domain.chatting.profanity;
+
+import java.util.*;
+
+import static bobmukjaku.bobmukjakuDemo.domain.chatting.profanity.JamoFolding.*;
+
+public final class ProfanityAutomaton {
+
+    /*
+    * 욕설 사전 Aho–Corasick 오토마톤
+    * - 사전 단어를 JamoFolding으로 접은 기호열로 만든 뒤 trie + 실패 링크를 DFA 전이표(int[])로 펼침
+    * - 검사는 메시지를 한 글자씩 접으면서 전이표를 따라가므로 O(길이), 검사 중 할당 없음
+    * - 단어는 음절/단어 경계에서 시작할 때만 인정 (갓바 속 ㅅㅂ 같은 오탐 방지)
+    * - 공백, 기호를 건너뛰어야 맞는 경우(시 발, 회의시 발표)와 애매 표시 단어는 AMBIGUOUS
+    * - 불변 객체이므로 여러 스레드에서 동시에 검사 가능
+    * */
+
+    public static final int MAX_WORD_LENGTH = 63; // 접은 기호 기준 (경계 비트를 long 하나로 추적)
+
+    private static final byte PROFANE_WORD = 1;
+    private static final byte AMBIGUOUS_WORD = 2;
+
+    private final short[] symbolTable; // 문자 -> 기호 번호 (0: 사전에 없는 기호)
+    private final int symbolCount; // 0 포함
+    private final int[] delta; // 상태 * symbolCount + 기호 -> 다음 상태
+    private final int[] outputStart; // 상태별 출력 범위 [outputStart[s], outputStart[s + 1])
+    private final int[] outputLength;
+    private final boolean[] outputAmbiguous;
+
+    private ProfanityAutomaton(char[] alphabet, int[] delta, int[] outputStart, int[] outputLength, boolean[] outputAmbiguous) {
+        this.symbolTable = new short[Character.MAX_VALUE + 1];
+        for (int i = 0; i < alphabet.length; i++) symbolTable[alphabet[i]] = (short) (i + 1);
+        this.symbolCount = alphabet.length + 1;
+        this.delta = delta;
+        this.outputStart = outputStart;
+        this.outputLength = outputLength;
+        this.outputAmbiguous = outputAmbiguous;
+    }
+
+    public static ProfanityAutomaton of(Collection<String> profaneWords, Collection<String> ambiguousWords) {
+        // 1. 접은 단어 -> 종류 (같은 단어가 양쪽에 있으면 욕설로)
+        Map<String, Byte> words = new HashMap<>();
+        ambiguousWords.forEach(word -> words.merge(normalizeWord(word), AMBIGUOUS_WORD, (a, b) -> (byte) Math.min(a, b)));
+        profaneWords.forEach(word -> words.merge(normalizeWord(word), PROFANE_WORD, (a, b) -> (byte) Math.min(a, b)));
+        words.remove("");
+        for (String word : words.keySet()) {
+            if (word.length() > MAX_WORD_LENGTH)
+                throw new IllegalArgumentException("사전 단어가 너무 깁니다: " + word);
+        }
+
+        TreeSet<Character> symbols = new TreeSet<>();
+        words.keySet().forEach(word -> word.chars().forEach(c -> symbols.add((char) c)));
+        char[] alphabet = new char[symbols.size()];
+        int i = 0;
+        for (char symbol : symbols) alphabet[i++] = symbol;
+        int symbolCount = alphabet.length + 1;
+
+        // 2. trie
+        List<int[]> children = new ArrayList<>();
+        List<Byte> kinds = new ArrayList<>();
+        List<Integer> depths = new ArrayList<>();
+        children.add(new int[symbolCount]);
+        kinds.add((byte) 0);
+        depths.add(0);
+        for (Map.Entry<String, Byte> entry : words.entrySet()) {
+            int state = 0;
+            for (char c : entry.getKey().toCharArray()) {
+                int symbol = Arrays.binarySearch(alphabet, c) + 1;
+                if (children.get(state)[symbol] == 0) {
+                    children.get(state)[symbol] = children.size();
+                    children.add(new int[symbolCount]);
+                    kinds.add((byte) 0);
+                    depths.add(depths.get(state) + 1);
+                }
+                state = children.get(state)[symbol];
+            }
+            kinds.set(state, entry.getValue());
+        }
+
+        // 3. BFS로 실패 링크를 따라 전이표 채우기 + 출력(자기 단어 + 실패 링크의 출력) 모으기
+        int stateCount = children.size();
+        int[] delta = new int[stateCount * symbolCount];
+        int[] fail = new int[stateCount];
+        List<List<Integer>> outputs = new ArrayList<>(Collections.nCopies(stateCount, null));
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        queue.add(0);
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            List<Integer> output = new ArrayList<>();
+            if (kinds.get(state) != 0) output.add(state);
+            if (state != 0) output.addAll(outputs.get(fail[state]));
+            outputs.set(state, output);
+
+            for (int symbol = 1; symbol < symbolCount; symbol++) {
+                int child = children.get(state)[symbol];
+                int fallback = state == 0 ? 0 : delta[fail[state] * symbolCount + symbol];
+                if (child == 0) {
+                    delta[state * symbolCount + symbol] = fallback;
+                } else {
+                    fail[child] = fallback;
+                    delta[state * symbolCount + symbol] = child;
+                    queue.add(child);
+                }
+            }
+        }
+
+        int[] outputStart = new int[stateCount + 1];
+        for (int state = 0; state < stateCount; state++)
+            outputStart[state + 1] = outputStart[state] + outputs.get(state).size();
+        int[] outputLength = new int[outputStart[stateCount]];
+        boolean[] outputAmbiguous = new boolean[outputStart[stateCount]];
+        for (int state = 0; state < stateCount; state++) {
+            int o = outputStart[state];
+            for (int terminal : outputs.get(state)) {
+                outputLength[o] = depths.get(terminal);
+                outputAmbiguous[o] = kinds.get(terminal) == AMBIGUOUS_WORD;
+                o++;
+            }
+        }
+        return new ProfanityAutomaton(alphabet, delta, outputStart, outputLength, outputAmbiguous);
+    }
+
+    public ProfanityVerdict scan(CharSequence text) {
+        if (text == null) return ProfanityVerdict.CLEAN;
+
+        int state = 0;
+        long startBits = 0; // 비트 k: k개 전 기호가 음절/단어의 시작인지
+        long skipBits = 0; // 비트 k: k개 전 기호 바로 앞에서 공백, 기호를 건너뛰었는지
+        boolean skipped = false;
+        boolean ambiguous = false;
+        int prevClass = SEPARATOR;
+        boolean afterStandaloneConsonant = false; // 직전 글자가 자음 단독 (ㅅ1발의 ㅅ)
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int charClass = classOf(c);
+            boolean continuesUnit = false;
+            long packed;
+            char replaced;
+
+            if (afterStandaloneConsonant && (replaced = leetToVowel(c)) != 0) {
+                packed = pack(replaced);
+                charClass = HANGUL;
+                continuesUnit = true;
+            } else if (prevClass == LATIN && charClass != LATIN && (replaced = leetToLatin(c)) != 0) {
+                packed = pack(replaced);
+                charClass = LATIN;
+            } else if (charClass == SEPARATOR) {
+                skipped = true;
+                prevClass = SEPARATOR;
+                afterStandaloneConsonant = false;
+                continue;
+            } else {
+                packed = fold(c, charClass);
+            }
+
+            for (int k = 0; k < count(packed); k++) {
+                boolean unitStart = k == 0 && !continuesUnit && (charClass == HANGUL || charClass != prevClass);
+                startBits = (startBits << 1) | (unitStart ? 1 : 0);
+                skipBits = (skipBits << 1) | (skipped ? 1 : 0);
+                skipped = false;
+
+                state = delta[state * symbolCount + symbolTable[charAt(packed, k)]];
+                for (int o = outputStart[state]; o < outputStart[state + 1]; o++) {
+                    int length = outputLength[o];
+                    if ((startBits & (1L << (length - 1))) == 0) continue; // 음절/단어 중간에서 시작
+                    boolean crossesSeparator = (skipBits & ((1L << (length - 1)) - 1)) != 0;
+                    if (!crossesSeparator && !outputAmbiguous[o]) return ProfanityVerdict.PROFANE;
+                    ambiguous = true;
+                }
+            }
+
+            afterStandaloneConsonant = charClass == HANGUL && !continuesUnit && count(packed) == 1 && isConsonant(charAt(packed, 0));
+            prevClass = charClass;
+        }
+        return ambiguous ? ProfanityVerdict.AMBIGUOUS : ProfanityVerdict.CLEAN;
+    }
+
+    public int stateCount() {
+        return outputStart.length - 1;
+    }
+
+    // 사전 단어 -> 접은 기호열 (공백, 기호 제거)
+    static String normalizeWord(String word) {
+        StringBuilder normalized = new StringBuilder();
+        for (char c : word.trim().toCharArray()) {
+            int charClass = classOf(c);
+            if (charClass == SEPARATOR) continue;
+            long packed = fold(c, charClass);
+            for (int k = 0; k < count(packed); k++) normalized.append(charAt(packed, k));
+        }
+        return normalized.toString();
+    }
+
+}
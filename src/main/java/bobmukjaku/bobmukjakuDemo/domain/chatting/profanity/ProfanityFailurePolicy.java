@@ -0,0 +1,14 @@
+package bobmukjaku.bobmukjakuDemo.domain.chatting.profanity;
+
+import java.util.Locale;
+
+// 원격 욕설 판정을 못 받았을 때 (서킷 열림, 동시 호출 초과, 시간 초과, 오류) 처리 방식
+public enum ProfanityFailurePolicy {
+    FAIL_OPEN, // 메시지 그대로 전송
+    FAIL_LOCAL; // 로컬 사전 결과를 따름 (애매한 단어가 있으므로 욕설로 처리)
+
+    // fail-open, fail-local
+    public static ProfanityFailurePolicy from(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+}
@@ -0,0 +1,8 @@
+package bobmukjaku.bobmukjakuDemo.domain.chatting.profanity;
+
+// 로컬 욕설 검사 결과
+public enum ProfanityVerdict {
+    CLEAN, // 사전에 걸리는 단어 없음
+    AMBIGUOUS, // 애매 (애매 표시 단어, 띄어쓰기/기호를 건너뛰어야 맞는 경우) -> 원격 모델로 확인
+    PROFANE // 욕설
+}
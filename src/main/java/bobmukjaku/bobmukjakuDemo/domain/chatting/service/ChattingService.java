@@ -1,54 +1,66 @@
 package bobmukjaku.bobmukjakuDemo.domain.chatting.service;
 
 import bobmukjaku.bobmukjakuDemo.domain.chatting.ChatModel;
-import bobmukjaku.bobmukjakuDemo.domain.chatting.ProfanityResponse;
-import com.google.firebase.database.DatabaseError;
+import bobmukjaku.bobmukjakuDemo.domain.chatting.profanity.ProfanityVerdict;
 import com.google.firebase.database.DatabaseReference;
 import com.google.firebase.database.FirebaseDatabase;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.BodyInserters;
-import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class ChattingService {
 
-    // 파이어베이스로 메시지 전송
-    public void sendMessageToFireBase(ChatModel md) throws Exception {
-        DatabaseReference ref = FirebaseDatabase.getInstance()
-                .getReference("/chatRoom/"+md.getChatRoomId()+"/message");
-        ref.push().setValue(md, new DatabaseReference.CompletionListener() {
-            @Override
-            public void onComplete(DatabaseError error, DatabaseReference ref) {
-                System.out.println(md.getMessage());
-                System.out.println(error.getMessage());
-            }
+    // DB를 사용하지 않고 Mono를 반환하므로 @Transactional X (리액티브 반환 타입은 JPA 트랜잭션 매니저로 처리 불가)
 
-        });
-    }
+    private static final String PROFANITY_REPLACEMENT = "욕설을 감지하였습니다.";
 
-    // 욕설 감지
-    public Boolean inspectBadWord(String message) throws Exception {
-        WebClient client = WebClient.builder()
-                .baseUrl("http://43.200.23.47:5000")
-                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .build();
+    private final ProfanityRemoteStage profanityRemoteStage;
+    private final LocalProfanityDetector localProfanityDetector;
+    private final ProfanityVerdictCache profanityVerdictCache;
 
-        String jsonBody = "{\"message\":\"" + message + "\"}";
+    @Value("${app.profanity.remote-second-stage:true}")
+    private boolean remoteSecondStage; // 로컬 사전 결과가 애매할 때 원격 모델로 확인
 
-        ProfanityResponse resultBadWordInspection = client.post()
-                .uri("/check_profanity")
-                .body(BodyInserters.fromValue(jsonBody))
-                .retrieve()
-                .bodyToMono(ProfanityResponse.class)
-                .block();
+    // 메시지 전송 (공유 메시지가 아니면 욕설 감지 후 전송)
+    public Mono<Void> sendMessage(ChatModel md) {
+        if (Boolean.TRUE.equals(md.getShareMessage()))
+            return sendMessageToFireBase(md);
+
+        return inspectBadWord(md.getMessage())
+                .flatMap(profanity -> {
+                    if (profanity) md.setMessage(PROFANITY_REPLACEMENT);
+                    return sendMessageToFireBase(md);
+                });
+    }
+
+    // 파이어베이스로 메시지 전송 (저장 완료 콜백에서 완료)
+    public Mono<Void> sendMessageToFireBase(ChatModel md) {
+        return Mono.create(sink -> {
+            DatabaseReference ref = FirebaseDatabase.getInstance()
+                    .getReference("/chatRoom/" + md.getChatRoomId() + "/message");
+            ref.push().setValue(md, (error, savedRef) -> {
+                if (error == null) {
+                    sink.success();
+                    return;
+                }
+                log.warn("파이어베이스 메시지 전송 실패 (방 {}): {}", md.getChatRoomId(), error.getMessage());
+                sink.error(error.toException());
+            });
+        });
+    }
 
-        return resultBadWordInspection.getProfanity();
+    // 욕설 감지 (로컬 사전 -> 애매한 경우에만 원격 모델, 원격 판정은 캐시 + 묶음 요청 + 서킷 브레이커)
+    public Mono<Boolean> inspectBadWord(String message) {
+        ProfanityVerdict verdict = localProfanityDetector.inspect(message);
+        if (verdict == ProfanityVerdict.PROFANE) return Mono.just(true);
+        if (verdict == ProfanityVerdict.CLEAN || !remoteSecondStage) return Mono.just(false);
+        return profanityVerdictCache.get(message, profanityRemoteStage::check)
+                .onErrorResume(profanityRemoteStage::fallback); // 실패 판정은 캐시하지 않음
     }
 
 }
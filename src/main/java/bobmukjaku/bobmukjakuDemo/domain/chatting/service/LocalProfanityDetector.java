@@ -0,0 +1,55 @@
+package bobmukjaku.bobmukjakuDemo.domain.chatting.service;
+
+import bobmukjaku.bobmukjakuDemo.domain.chatting.profanity.ProfanityAutomaton;
+import bobmukjaku.bobmukjakuDemo.domain.chatting.profanity.ProfanityVerdict;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Component
+public class LocalProfanityDetector {
+
+    /*
+    * 서버 내 욕설 검사 (시작 시 사전을 ProfanityAutomaton으로 적재)
+    * - 사전 형식: 한 줄에 한 단어, #은 주석, ?로 시작하면 애매한 단어
+    * */
+
+    private final Resource dictionary;
+    private volatile ProfanityAutomaton automaton;
+
+    public LocalProfanityDetector(@Value("${app.profanity.dictionary:classpath:profanity/words.txt}") Resource dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    @PostConstruct
+    public void load() throws IOException {
+        List<String> profaneWords = new ArrayList<>();
+        List<String> ambiguousWords = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(dictionary.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) continue;
+                if (line.startsWith("?")) ambiguousWords.add(line.substring(1));
+                else profaneWords.add(line);
+            }
+        }
+        automaton = ProfanityAutomaton.of(profaneWords, ambiguousWords);
+        log.info("욕설 사전 적재 (단어 {}개, 상태 {}개)", profaneWords.size() + ambiguousWords.size(), automaton.stateCount());
+    }
+
+    public ProfanityVerdict inspect(String message) {
+        return automaton.scan(message);
+    }
+
+}
@@ -0,0 +1,125 @@
+package bobmukjaku.bobmukjakuDemo.domain.chatting.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+@Slf4j
+@Component
+public class ProfanityBatcher {
+
+    /*
+    * 원격 욕설 판정 요청 묶음 (micro-batching)
+    * - 첫 메시지가 들어온 뒤 max-delay-ms가 지나거나 max-size개가 모이면 묶음 엔드포인트로 한 번에 전송
+    * - 결과는 메시지마다 따로 완료 (묶음 요청이 실패하면 묶인 메시지 모두 실패)
+    * - 전송은 WebClient로 비동기 처리하므로 묶는 스레드는 막히지 않음
+    * app.profanity.batch.enabled=false면 메시지마다 바로 단건 요청
+    * */
+
+    private final ProfanityClient profanityClient;
+    private final boolean enabled;
+    private final int maxSize;
+    private final long maxDelayMillis;
+
+    private final ScheduledExecutorService flushScheduler;
+    private final DistributionSummary batchSizeSummary;
+
+    private final Object lock = new Object();
+    private List<PendingCheck> buffer = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    private record PendingCheck(String message, CompletableFuture<Boolean> result) {
+    }
+
+    public ProfanityBatcher(ProfanityClient profanityClient, MeterRegistry meterRegistry,
+                            @Value("${app.profanity.batch.enabled:false}") boolean enabled,
+                            @Value("${app.profanity.batch.max-size:32}") int maxSize,
+                            @Value("${app.profanity.batch.max-delay-ms:5}") long maxDelayMillis) {
+        if (maxSize <= 0 || maxDelayMillis < 0)
+            throw new IllegalArgumentException("max-size는 0보다 크고 max-delay-ms는 0 이상이어야 합니다.");
+        this.profanityClient = profanityClient;
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.maxDelayMillis = maxDelayMillis;
+        this.flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "profanity-batch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.batchSizeSummary = DistributionSummary.builder("profanity.batch.size").register(meterRegistry);
+    }
+
+    // 욕설이면 true
+    public Mono<Boolean> check(String message) {
+        if (!enabled) return profanityClient.check(message);
+        return Mono.defer(() -> {
+            PendingCheck pendingCheck = new PendingCheck(message, new CompletableFuture<>());
+            enqueue(pendingCheck);
+            return Mono.fromFuture(pendingCheck.result());
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        flushScheduler.shutdownNow();
+        List<PendingCheck> remaining;
+        synchronized (lock) {
+            remaining = takeBuffer();
+        }
+        remaining.forEach(pendingCheck -> pendingCheck.result().completeExceptionally(new RejectedExecutionException("종료 중입니다.")));
+    }
+
+    private void enqueue(PendingCheck pendingCheck) {
+        List<PendingCheck> full = null;
+        synchronized (lock) {
+            buffer.add(pendingCheck);
+            if (buffer.size() >= maxSize) {
+                full = takeBuffer();
+            } else if (buffer.size() == 1) {
+                scheduledFlush = flushScheduler.schedule(this::flushDue, maxDelayMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (full != null) send(full);
+    }
+
+    private void flushDue() {
+        List<PendingCheck> batch;
+        synchronized (lock) {
+            batch = takeBuffer();
+        }
+        if (!batch.isEmpty()) send(batch);
+    }
+
+    // lock 안에서 호출
+    private List<PendingCheck> takeBuffer() {
+        List<PendingCheck> batch = buffer;
+        buffer = new ArrayList<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void send(List<PendingCheck> batch) {
+        batchSizeSummary.record(batch.size());
+        List<String> messages = batch.stream().map(PendingCheck::message).toList();
+        profanityClient.checkBatch(messages).subscribe(
+                results -> {
+                    for (int i = 0; i < batch.size(); i++) batch.get(i).result().complete(results.get(i));
+                },
+                error -> {
+                    log.warn("욕설 감지 묶음 요청 실패 ({}건)", batch.size(), error);
+                    batch.forEach(pendingCheck -> pendingCheck.result().completeExceptionally(error));
+                });
+    }
+
+}
@@ -0,0 +1,53 @@
+package bobmukjaku.bobmukjakuDemo.domain.chatting.service;
+
+import bobmukjaku.bobmukjakuDemo.domain.chatting.ProfanityBatchRequest;
+import bobmukjaku.bobmukjakuDemo.domain.chatting.ProfanityBatchResponse;
+import bobmukjaku.bobmukjakuDemo.domain.chatting.ProfanityRequest;
+import bobmukjaku.bobmukjakuDemo.domain.chatting.ProfanityResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Component
+public class ProfanityClient {
+
+    // 욕설 감지 서버 (Flask) 호출
+    private final WebClient webClient;
+    private final String batchPath;
+
+    public ProfanityClient(@Qualifier("profanityWebClient") WebClient webClient,
+                           @Value("${app.profanity.batch.path:/check_profanity_batch}") String batchPath) {
+        this.webClient = webClient;
+        this.batchPath = batchPath;
+    }
+
+    // 욕설이면 true (요청 스레드를 막지 않음)
+    public Mono<Boolean> check(String message) {
+        return webClient.post()
+                .uri("/check_profanity")
+                .bodyValue(new ProfanityRequest(message)) // Jackson으로 직렬화 (따옴표, 줄바꿈 이스케이프)
+                .retrieve()
+                .bodyToMono(ProfanityResponse.class)
+                .map(response -> Boolean.TRUE.equals(response.getProfanity()));
+    }
+
+    // 여러 메시지를 한 번에 판정 (결과는 요청 순서대로, 개수가 다르면 IllegalStateException)
+    public Mono<List<Boolean>> checkBatch(List<String> messages) {
+        return webClient.post()
+                .uri(batchPath)
+                .bodyValue(new ProfanityBatchRequest(messages))
+                .retrieve()
+                .bodyToMono(ProfanityBatchResponse.class)
+                .map(response -> {
+                    List<ProfanityResponse> results = response.getResults();
+                    if (results == null || results.size() != messages.size())
+                        throw new IllegalStateException("욕설 감지 묶음 응답 개수가 요청과 다릅니다.");
+                    return results.stream().map(result -> Boolean.TRUE.equals(result.getProfanity())).toList();
+                });
+    }
+
+}
@@ -0,0 +1,107 @@
+package bobmukjaku.bobmukjakuDemo.domain.chatting.service;
+
+import bobmukjaku.bobmukjakuDemo.domain.chatting.profanity.ProfanityFailurePolicy;
+import bobmukjaku.bobmukjakuDemo.global.utility.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Slf4j
+@Component
+public class ProfanityRemoteStage {
+
+    /*
+    * 원격 욕설 판정 보호 (서킷 브레이커 + 벌크헤드 + 시간 제한)
+    * - 서킷이 열려 있거나 동시 호출이 max-concurrent개를 넘으면 원격 호출 없이 바로 실패
+    * - 호출 전체(묶음 대기, 연결 획득 포함)는 call-timeout-ms 안에 끝나야 하며 초과는 실패로 기록
+    * - 실패한 메시지는 failure-policy에 따라 판정 (fail-open: 통과, fail-local: 로컬 사전 결과를 따라 욕설 처리)
+    * - 원격 호출은 전용 연결 풀(WebClientConfig)과 이 벌크헤드 안에서만 일어나므로 분류기 장애가 다른 요청에 번지지 않음
+    * 지표: profanity.circuit.*, profanity.bulkhead.rejected / available, profanity.remote.fallback (reason 태그)
+    * */
+
+    private final ProfanityBatcher profanityBatcher;
+    private final CircuitBreaker circuitBreaker;
+    private final Semaphore bulkhead;
+    private final Duration callTimeout;
+    private final ProfanityFailurePolicy failurePolicy;
+
+    private final Counter bulkheadRejectedCounter;
+    private final MeterRegistry meterRegistry;
+
+    // 원격 판정을 시도하지 못한 경우
+    static class RemoteUnavailableException extends RuntimeException {
+        private final String reason;
+
+        RemoteUnavailableException(String reason) {
+            super(reason, null, false, false);
+            this.reason = reason;
+        }
+    }
+
+    public ProfanityRemoteStage(ProfanityBatcher profanityBatcher, MeterRegistry meterRegistry,
+                                @Value("${app.profanity.failure-policy:fail-open}") String failurePolicy,
+                                @Value("${app.profanity.circuit.window-size:20}") int windowSize,
+                                @Value("${app.profanity.circuit.minimum-calls:10}") int minimumCalls,
+                                @Value("${app.profanity.circuit.failure-rate-threshold:0.5}") double failureRateThreshold,
+                                @Value("${app.profanity.circuit.open-duration-ms:10000}") long openDurationMillis,
+                                @Value("${app.profanity.circuit.half-open-calls:3}") int halfOpenCalls,
+                                @Value("${app.profanity.circuit.call-timeout-ms:1500}") long callTimeoutMillis,
+                                @Value("${app.profanity.bulkhead.max-concurrent:32}") int maxConcurrent) {
+        this.profanityBatcher = profanityBatcher;
+        this.meterRegistry = meterRegistry;
+        this.failurePolicy = ProfanityFailurePolicy.from(failurePolicy);
+        this.circuitBreaker = new CircuitBreaker("profanity", meterRegistry, windowSize, minimumCalls,
+                failureRateThreshold, openDurationMillis, TimeUnit.MILLISECONDS, halfOpenCalls);
+        this.bulkhead = new Semaphore(maxConcurrent);
+        this.callTimeout = Duration.ofMillis(callTimeoutMillis);
+        this.bulkheadRejectedCounter = Counter.builder("profanity.bulkhead.rejected").description("동시 호출 초과로 거부된 호출").register(meterRegistry);
+        Gauge.builder("profanity.bulkhead.available", bulkhead, Semaphore::availablePermits).register(meterRegistry);
+    }
+
+    // 원격 판정 (거부, 시간 초과, 오류 시 에러로 완료 -> fallback으로 처리)
+    public Mono<Boolean> check(String message) {
+        return Mono.defer(() -> {
+            if (!bulkhead.tryAcquire()) {
+                bulkheadRejectedCounter.increment();
+                return Mono.error(new RemoteUnavailableException("bulkhead_full"));
+            }
+            if (!circuitBreaker.tryAcquire()) {
+                bulkhead.release();
+                return Mono.error(new RemoteUnavailableException("circuit_open"));
+            }
+            return profanityBatcher.check(message)
+                    .timeout(callTimeout)
+                    .doOnSuccess(result -> circuitBreaker.onSuccess())
+                    .doOnError(error -> circuitBreaker.onFailure())
+                    .doFinally(signal -> {
+                        if (signal == SignalType.CANCEL) circuitBreaker.onIgnored();
+                        bulkhead.release();
+                    });
+        });
+    }
+
+    // 원격 판정 실패 시 정책에 따른 판정
+    public Mono<Boolean> fallback(Throwable error) {
+        String reason = error instanceof RemoteUnavailableException unavailable ? unavailable.reason
+                : error instanceof TimeoutException ? "timeout" : "error";
+        meterRegistry.counter("profanity.remote.fallback", "reason", reason).increment();
+        if (!(error instanceof RemoteUnavailableException))
+            log.warn("원격 욕설 판정 실패 ({}), {} 적용", reason, failurePolicy, error);
+        return Mono.just(failurePolicy == ProfanityFailurePolicy.FAIL_LOCAL);
+    }
+
+    public CircuitBreaker.State circuitState() {
+        return circuitBreaker.getState();
+    }
+
+}
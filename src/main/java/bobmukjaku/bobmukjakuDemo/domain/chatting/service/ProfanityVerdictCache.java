@@ -0,0 +1,81 @@
+package bobmukjaku.bobmukjakuDemo.domain.chatting.service;
+
+import bobmukjaku.bobmukjakuDemo.global.utility.HashUtil;
+import bobmukjaku.bobmukjakuDemo.global.utility.LruCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.util.Locale;
+import java.util.function.Function;
+
+@Component
+public class ProfanityVerdictCache {
+
+    /*
+    * 원격 욕설 판정 결과 캐시 (LRU + TTL)
+    * - 키: 정규화한 메시지(앞뒤 공백 제거, 연속 공백 하나로, 소문자)의 SHA-256 해시 (메시지 원문은 보관하지 않음)
+    * - 키 크기가 고정이므로 용량(바이트)은 항목당 ENTRY_BYTES로 환산해 최대 개수로 제한
+    * - 판정에 성공한 결과만 캐시 (원격 호출 실패는 캐시 X)
+    * - 지표: profanity.cache.hit / miss / eviction, profanity.cache.size / bytes
+    * */
+
+    static final int ENTRY_BYTES = 160; // 해시 32바이트 + ByteBuffer, 맵 엔트리, 값 객체 추정치
+
+    private final long ttlMillis;
+    private final LruCache<ByteBuffer, Boolean> entries;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    @Autowired
+    public ProfanityVerdictCache(MeterRegistry meterRegistry,
+                                 @Value("${app.profanity.cache.ttl-seconds:600}") long ttlSeconds,
+                                 @Value("${app.profanity.cache.max-bytes:4194304}") long maxBytes) {
+        this.ttlMillis = ttlSeconds * 1000;
+        int maxEntries = (int) Math.max(1, Math.min(Integer.MAX_VALUE, maxBytes / ENTRY_BYTES));
+        this.hitCounter = Counter.builder("profanity.cache.hit").register(meterRegistry);
+        this.missCounter = Counter.builder("profanity.cache.miss").register(meterRegistry);
+        this.evictionCounter = Counter.builder("profanity.cache.eviction").description("용량 초과로 제거된 판정").register(meterRegistry);
+        this.entries = new LruCache<>(maxEntries, evictionCounter::increment);
+        Gauge.builder("profanity.cache.size", this, ProfanityVerdictCache::size).register(meterRegistry);
+        Gauge.builder("profanity.cache.bytes", this, cache -> (double) cache.size() * ENTRY_BYTES).register(meterRegistry);
+    }
+
+    // 캐시된 판정이 있으면 반환, 없으면 loader로 판정 후 저장
+    public Mono<Boolean> get(String message, Function<String, Mono<Boolean>> loader) {
+        ByteBuffer key = key(message);
+        Boolean cached = entries.get(key);
+        if (cached != null) {
+            hitCounter.increment();
+            return Mono.just(cached);
+        }
+        missCounter.increment();
+        return loader.apply(message)
+                .doOnNext(profanity -> put(key, profanity));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void put(ByteBuffer key, boolean profanity) {
+        entries.put(key, profanity, System.currentTimeMillis() + ttlMillis);
+    }
+
+    static String normalize(String message) {
+        if (message == null) return "";
+        return message.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static ByteBuffer key(String message) {
+        return ByteBuffer.wrap(HashUtil.sha256(normalize(message)));
+    }
+
+}
@@ -7,7 +7,10 @@ import lombok.*;
 
 import static jakarta.persistence.FetchType.LAZY;
 
-@Table(name = "friend")
+// 유니크 제약: resources/db/017_friend_unique.sql
+@Table(name = "friend", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_friend_uid_friend_id", columnNames = {"uid", "friend_id"})
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -29,4 +32,9 @@ public class Friend extends BaseTimeEntity {
     @Column(name = "is_block")
     private Boolean isBlock; // 차단 - true, 친구 - false
 
+    // 친구 <-> 차단 변경
+    public void updateBlock(Boolean isBlock) {
+        this.isBlock = isBlock;
+    }
+
 }
@@ -0,0 +1,59 @@
+package bobmukjaku.bobmukjakuDemo.domain.friend;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+public final class UidSet {
+
+    /*
+    * 정렬된 long[]로 보관하는 불변 uid 집합
+    * - 포함 여부는 이진 탐색, 다른 정렬 배열과의 교집합 여부는 병합 방식으로 확인
+    * - Long 박싱, 해시 엔트리 없이 uid 하나당 8바이트
+    * */
+
+    public static final UidSet EMPTY = new UidSet(new long[0]);
+
+    private final long[] uids;
+
+    private UidSet(long[] sortedUids) {
+        this.uids = sortedUids;
+    }
+
+    public static UidSet of(Collection<Long> uids) {
+        if (uids.isEmpty()) return EMPTY;
+        return new UidSet(uids.stream().mapToLong(Long::longValue).sorted().distinct().toArray());
+    }
+
+    public static UidSet of(long... uids) {
+        if (uids.length == 0) return EMPTY;
+        return new UidSet(Arrays.stream(uids).sorted().distinct().toArray());
+    }
+
+    public boolean contains(long uid) {
+        return Arrays.binarySearch(uids, uid) >= 0;
+    }
+
+    // 정렬된 배열 sortedUids와 겹치는 uid가 있는지
+    public boolean intersects(long[] sortedUids) {
+        int i = 0, j = 0;
+        while (i < uids.length && j < sortedUids.length) {
+            if (uids[i] == sortedUids[j]) return true;
+            if (uids[i] < sortedUids[j]) i++;
+            else j++;
+        }
+        return false;
+    }
+
+    public int size() {
+        return uids.length;
+    }
+
+    public boolean isEmpty() {
+        return uids.length == 0;
+    }
+
+    public long[] toArray() {
+        return uids.clone();
+    }
+
+}
@@ -0,0 +1,5 @@
+package bobmukjaku.bobmukjakuDemo.domain.friend.dto;
+
+// 친구 그래프 적재용 (상대 uid, 차단 여부)
+public record FriendRelationDto(Long friendUid, Boolean isBlock) {
+}
@@ -1,10 +1,42 @@
 package bobmukjaku.bobmukjakuDemo.domain.friend.repository;
 
 import bobmukjaku.bobmukjakuDemo.domain.friend.Friend;
+import bobmukjaku.bobmukjakuDemo.domain.friend.dto.FriendRelationDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface FriendRepository extends JpaRepository<Friend, Long> {
     void deleteFriendByFriendUid(Long friendUid); // 친구 또는 차단사용자의 uid와 일치하는 Friend 엔티티 삭제
+
+    // 회원이 등록한 친구(isBlock=false) 또는 차단 사용자(isBlock=true)의 uid 목록 (등록 순)
+    @Query("select f.friendUid from Friend f where f.member.uid = :uid and f.isBlock = :isBlock order by f.Id")
+    List<Long> findFriendUids(@Param("uid") Long uid, @Param("isBlock") Boolean isBlock);
+
+    // (회원, 상대) 관계 저장, 이미 있으면 차단 여부만 변경 (uk_friend_uid_friend_id 기준)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "insert into friend (uid, friend_id, is_block, created_at, last_modified_at) " +
+            "values (:uid, :friendUid, :isBlock, now(6), now(6)) " +
+            "on duplicate key update is_block = values(is_block), last_modified_at = now(6)", nativeQuery = true)
+    int upsert(@Param("uid") Long uid, @Param("friendUid") Long friendUid, @Param("isBlock") Boolean isBlock);
+
+    // (회원, 상대) 관계 삭제
+    @Modifying(flushAutomatically = true)
+    @Query("delete from Friend f where f.member.uid = :uid and f.friendUid = :friendUid")
+    int deleteRelation(@Param("uid") Long uid, @Param("friendUid") Long friendUid);
+
+    @Query("select f from Friend f where f.member.uid = :uid and f.friendUid = :friendUid")
+    Optional<Friend> findRelation(@Param("uid") Long uid, @Param("friendUid") Long friendUid);
+
+    // 회원이 등록한 친구/차단 관계 전체 (친구 그래프 적재용)
+    @Query("select new bobmukjaku.bobmukjakuDemo.domain.friend.dto.FriendRelationDto(f.friendUid, f.isBlock) from Friend f where f.member.uid = :uid")
+    List<FriendRelationDto> findRelations(@Param("uid") Long uid);
+
+    // friendUid를 친구 또는 차단으로 등록한 회원 uid 목록
+    @Query("select f.member.uid from Friend f where f.friendUid = :friendUid")
+    List<Long> findOwnerUids(@Param("friendUid") Long friendUid);
 }
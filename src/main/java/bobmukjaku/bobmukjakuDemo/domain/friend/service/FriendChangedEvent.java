@@ -0,0 +1,18 @@
+package bobmukjaku.bobmukjakuDemo.domain.friend.service;
+
+import bobmukjaku.bobmukjakuDemo.global.cache.CachedEntity;
+import bobmukjaku.bobmukjakuDemo.global.cache.EntityChangedEvent;
+
+// 회원의 친구/차단 목록이 바뀌었을 때 발행 (uid가 null이면 여러 회원의 목록이 바뀜)
+public record FriendChangedEvent(Long uid) implements EntityChangedEvent {
+
+    @Override
+    public CachedEntity entity() {
+        return CachedEntity.FRIEND;
+    }
+
+    @Override
+    public Long id() {
+        return uid;
+    }
+}
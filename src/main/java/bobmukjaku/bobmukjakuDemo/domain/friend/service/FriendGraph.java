@@ -0,0 +1,272 @@
+package bobmukjaku.bobmukjakuDemo.domain.friend.service;
+
+import bobmukjaku.bobmukjakuDemo.domain.friend.UidSet;
+import bobmukjaku.bobmukjakuDemo.domain.friend.dto.FriendRelationDto;
+import bobmukjaku.bobmukjakuDemo.domain.friend.repository.FriendRepository;
+import bobmukjaku.bobmukjakuDemo.global.cache.CachedEntity;
+import bobmukjaku.bobmukjakuDemo.global.cache.LocalCacheInvalidator;
+import bobmukjaku.bobmukjakuDemo.global.utility.LruCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class FriendGraph implements LocalCacheInvalidator {
+
+    /*
+    * 회원별 친구/차단 uid 집합 (UidSet, 정렬된 long[])
+    * - 조회 순서: 노드 메모리(LRU) -> Redis 집합 -> DB (읽은 값은 Redis, 메모리에 적재)
+    * - Redis: friend:graph:{uid} (적재 표시), friend:graph:{uid}:friend, friend:graph:{uid}:block 집합,
+    *   friend:graph:{uid}:version (변경될 때마다 1 증가)
+    * - 친구/차단 등록, 해제가 커밋되면 Redis 집합에 바로 반영하고 메모리 값은 버림
+    * - DB 조회 전에 읽은 version이 적재 시점에도 같을 때만 Redis에 적재 (조회 중 변경이 커밋되면 이전 값을 적재하지 않음)
+    * - 조회 중 이 노드의 메모리 값이 무효화됐거나 version이 바뀌었으면 메모리에도 넣지 않음
+    * - 다른 노드의 메모리 값은 FriendChangedEvent -> CacheInvalidationBus로 무효화
+    * - Redis 장애 시 DB에서 바로 읽음
+    * */
+
+    static final String KEY_PREFIX = "friend:graph:";
+    private static final long TTL_SECONDS = TimeUnit.DAYS.toSeconds(1);
+    private static final int LOCAL_CAPACITY = 10_000;
+
+    // 적재 표시가 없으면 nil, 있으면 {친구 uid 목록, 차단 uid 목록}
+    private static final RedisScript<List> READ_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return false end " +
+            "return {redis.call('SMEMBERS', KEYS[2]), redis.call('SMEMBERS', KEYS[3])}", List.class);
+
+    // version이 DB 조회 전과 같고 적재 표시가 없을 때만 적재 (-1: version 바뀜, 0: 이미 적재됨)
+    // ARGV[1]: TTL, ARGV[2]: DB 조회 전 version, ARGV[3]: 친구 수, 이후 친구 uid, 차단 uid 순
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[4]) or '0') ~= ARGV[2] then return -1 end " +
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "redis.call('DEL', KEYS[2], KEYS[3]) " +
+            "local friendCount = tonumber(ARGV[3]) " +
+            "for i = 4, #ARGV do " +
+            "  if i - 3 <= friendCount then redis.call('SADD', KEYS[2], ARGV[i]) " +
+            "  else redis.call('SADD', KEYS[3], ARGV[i]) end " +
+            "end " +
+            "redis.call('SET', KEYS[1], '1', 'EX', ARGV[1]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[1]) " +
+            "redis.call('EXPIRE', KEYS[3], ARGV[1]) " +
+            "return 1", Long.class);
+
+    // version 증가 후 적재된 경우에만 집합에 추가(ARGV[1] = add) 또는 제거 (ARGV[3]: version TTL)
+    private static final RedisScript<Long> UPDATE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[3]) " +
+            "redis.call('EXPIRE', KEYS[3], ARGV[3]) " +
+            "local ttl = redis.call('TTL', KEYS[1]) " +
+            "if ttl <= 0 then return 0 end " +
+            "if ARGV[1] == 'add' then redis.call('SADD', KEYS[2], ARGV[2]) " +
+            "else redis.call('SREM', KEYS[2], ARGV[2]) end " +
+            "redis.call('EXPIRE', KEYS[2], ttl) " +
+            "return 1", Long.class);
+
+    // 적재된 값 삭제 + version 증가 (진행 중인 적재가 삭제 전 값을 다시 쓰지 않도록)
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1], KEYS[2], KEYS[3]) " +
+            "redis.call('INCR', KEYS[4]) " +
+            "redis.call('EXPIRE', KEYS[4], ARGV[1]) " +
+            "return 1", Long.class);
+
+    private final FriendRepository friendRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    private final LruCache<Long, Adjacency> local = new LruCache<>(LOCAL_CAPACITY);
+    private long localGeneration; // 메모리 값이 무효화될 때마다 증가 (local로 동기화)
+
+    public FriendGraph(FriendRepository friendRepository, StringRedisTemplate redisTemplate) {
+        this.friendRepository = friendRepository;
+        this.redisTemplate = redisTemplate;
+    }
+
+    // 회원의 친구, 차단 uid 집합
+    public record Adjacency(UidSet friends, UidSet blocks) {
+    }
+
+    public UidSet friendsOf(Long uid) {
+        return get(uid).friends();
+    }
+
+    public UidSet blocksOf(Long uid) {
+        return get(uid).blocks();
+    }
+
+    public Adjacency get(Long uid) {
+        long generation;
+        synchronized (local) {
+            Adjacency cached = local.get(uid);
+            if (cached != null) return cached;
+            generation = localGeneration;
+        }
+        Adjacency adjacency = readMirror(uid);
+        boolean cacheable = true;
+        if (adjacency == null) {
+            Loaded loaded = loadFromDatabase(uid);
+            adjacency = loaded.adjacency();
+            cacheable = loaded.cacheable();
+        }
+        synchronized (local) {
+            // 조회 중 무효화됐으면 이전 값일 수 있으므로 이번 조회 결과만 돌려줌
+            if (cacheable && generation == localGeneration)
+                local.put(uid, adjacency);
+        }
+        return adjacency;
+    }
+
+    // 친구(isBlock=false) 또는 차단 등록 (커밋 후 반영)
+    public void added(Long uid, Long friendUid, boolean isBlock) {
+        afterCommit(() -> updateMirror(uid, friendUid, isBlock, true));
+    }
+
+    // 친구 또는 차단 해제 (커밋 후 반영)
+    public void removed(Long uid, Long friendUid, boolean isBlock) {
+        afterCommit(() -> updateMirror(uid, friendUid, isBlock, false));
+    }
+
+    // 회원 탈퇴: 탈퇴 회원을 등록한 회원들의 집합에서 제거하고 탈퇴 회원의 그래프 삭제 (커밋 후 반영)
+    public void memberRemoved(Long uid, Collection<Long> ownerUids) {
+        afterCommit(() -> {
+            for (Long ownerUid : ownerUids) {
+                updateMirror(ownerUid, uid, false, false);
+                updateMirror(ownerUid, uid, true, false);
+            }
+            evict(uid);
+        });
+    }
+
+    // 이 노드에서 바뀐 회원의 메모리 값 버림 (Redis 반영 이후 순서는 afterCommit 등록 순서로 보장)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFriendChanged(FriendChangedEvent event) {
+        invalidate(event.uid());
+    }
+
+    @Override
+    public CachedEntity entity() {
+        return CachedEntity.FRIEND;
+    }
+
+    @Override
+    public void invalidate(Long uid) {
+        synchronized (local) {
+            localGeneration++;
+            if (uid == null) local.clear();
+            else local.remove(uid);
+        }
+    }
+
+    private void evict(Long uid) {
+        invalidate(uid);
+        try {
+            redisTemplate.execute(EVICT_SCRIPT, List.of(KEY_PREFIX + uid, friendKey(uid), blockKey(uid), versionKey(uid)),
+                    String.valueOf(TTL_SECONDS));
+        } catch (RuntimeException e) {
+            log.warn("친구 그래프 삭제 실패 (uid {})", uid, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Adjacency readMirror(Long uid) {
+        try {
+            List<Object> result = redisTemplate.execute(READ_SCRIPT, keys(uid));
+            if (result == null || result.size() < 2) return null;
+            return new Adjacency(toUidSet((Collection<String>) result.get(0)), toUidSet((Collection<String>) result.get(1)));
+        } catch (RuntimeException e) {
+            log.warn("친구 그래프 Redis 조회 실패 (uid {}), DB에서 조회", uid, e);
+            return null;
+        }
+    }
+
+    // DB 조회 결과 (cacheable: 조회 중 변경되지 않아 메모리에 넣어도 되는지)
+    private record Loaded(Adjacency adjacency, boolean cacheable) {
+    }
+
+    private Loaded loadFromDatabase(Long uid) {
+        String version;
+        try {
+            version = Objects.requireNonNullElse(redisTemplate.opsForValue().get(versionKey(uid)), "0");
+        } catch (RuntimeException e) {
+            log.warn("친구 그래프 version 조회 실패 (uid {}), Redis 적재 생략", uid, e);
+            version = null;
+        }
+
+        List<Long> friends = new ArrayList<>();
+        List<Long> blocks = new ArrayList<>();
+        for (FriendRelationDto relation : friendRepository.findRelations(uid)) {
+            if (Boolean.TRUE.equals(relation.isBlock())) blocks.add(relation.friendUid());
+            else friends.add(relation.friendUid());
+        }
+
+        Adjacency adjacency = new Adjacency(UidSet.of(friends), UidSet.of(blocks));
+        if (version == null)
+            return new Loaded(adjacency, true);
+
+        List<String> args = new ArrayList<>(friends.size() + blocks.size() + 3);
+        args.add(String.valueOf(TTL_SECONDS));
+        args.add(version);
+        args.add(String.valueOf(friends.size()));
+        friends.forEach(friendUid -> args.add(String.valueOf(friendUid)));
+        blocks.forEach(blockUid -> args.add(String.valueOf(blockUid)));
+        try {
+            List<String> loadKeys = List.of(KEY_PREFIX + uid, friendKey(uid), blockKey(uid), versionKey(uid));
+            Long result = redisTemplate.execute(LOAD_SCRIPT, loadKeys, args.toArray());
+            return new Loaded(adjacency, result == null || result >= 0);
+        } catch (RuntimeException e) {
+            log.warn("친구 그래프 Redis 적재 실패 (uid {})", uid, e);
+            return new Loaded(adjacency, true);
+        }
+    }
+
+    private void updateMirror(Long uid, Long friendUid, boolean isBlock, boolean add) {
+        try {
+            redisTemplate.execute(UPDATE_SCRIPT, List.of(KEY_PREFIX + uid, isBlock ? blockKey(uid) : friendKey(uid), versionKey(uid)),
+                    add ? "add" : "remove", String.valueOf(friendUid), String.valueOf(TTL_SECONDS));
+        } catch (RuntimeException e) { // 반영 실패 시 Redis 값을 버려 다음 조회 때 DB에서 다시 적재
+            log.warn("친구 그래프 Redis 반영 실패 (uid {})", uid, e);
+            evict(uid);
+        }
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private static UidSet toUidSet(Collection<String> uids) {
+        return UidSet.of(uids.stream().mapToLong(Long::parseLong).toArray());
+    }
+
+    private static List<String> keys(Long uid) {
+        return List.of(KEY_PREFIX + uid, friendKey(uid), blockKey(uid));
+    }
+
+    private static String friendKey(Long uid) {
+        return KEY_PREFIX + uid + ":friend";
+    }
+
+    private static String blockKey(Long uid) {
+        return KEY_PREFIX + uid + ":block";
+    }
+
+    private static String versionKey(Long uid) {
+        return KEY_PREFIX + uid + ":version";
+    }
+
+}
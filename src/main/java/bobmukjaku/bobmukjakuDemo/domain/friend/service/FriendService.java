@@ -12,11 +12,12 @@ import bobmukjaku.bobmukjakuDemo.domain.member.repository.MemberRepository;
 import bobmukjaku.bobmukjakuDemo.global.utility.SecurityUtil;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.*;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -25,84 +26,114 @@ public class FriendService {
 
     private final MemberRepository memberRepository;
     private final FriendRepository friendRepository;
+    private final FriendGraph friendGraph;
+    private final ApplicationEventPublisher eventPublisher;
 
-    // 친구 등록
+    private static final int IN_CHUNK_SIZE = 500; // IN 절 한 번에 넣을 uid 수
+
+    // 친구 등록 (이미 친구 또는 차단 관계면 친구로 변경)
     public void createFriend(FriendUpdateDto friendUpdateDto) throws Exception {
         Member member = memberRepository.findByMemberEmail(SecurityUtil.getLoginUsername()).orElseThrow(()->new MemberException(MemberExceptionType.NOT_FOUND_MEMBER));
-        Friend friend = Friend.builder().member(member).friendUid(friendUpdateDto.friendUid()).isBlock(false).build();
-        friendRepository.save(friend);
-        member.addFriend(friend);
+        upsertRelation(member, friendUpdateDto.friendUid(), false);
     }
 
     // 친구 해제
     public void deleteFriend(FriendUpdateDto friendUpdateDto) throws Exception {
         Member member = memberRepository.findByMemberEmail(SecurityUtil.getLoginUsername()).orElseThrow(()->new MemberException(MemberExceptionType.NOT_FOUND_MEMBER));
-        Optional<Friend> friendToRemove = member.getFriendList().stream()
-                .filter(friend -> friend.getFriendUid().equals(friendUpdateDto.friendUid()))
-                .findFirst();
-        if (friendToRemove.isPresent()) {
-            member.deleteFriend(friendToRemove.get());
-            friendRepository.delete(friendToRemove.get());
-        } else {
+        if (!deleteRelation(member, friendUpdateDto.friendUid())) {
             throw new Exception("Friend not found with ID: " + friendUpdateDto.friendUid());
         }
     }
 
-    // 내 친구 목록 조회
+    // 내 친구 목록 조회 (친구 uid 조회 1번 + 회원 정보 IN 조회 500명당 1번)
     public List<FriendInfoDto> getMyFriends() throws Exception {
         Member member = memberRepository.findByMemberEmail(SecurityUtil.getLoginUsername()).orElseThrow(()->new MemberException(MemberExceptionType.NOT_FOUND_MEMBER));
-        List<Member> friendMembers = member.getFriendList().stream()
-                .filter(friend -> friend.getIsBlock().equals(false))
-                .map(friend -> memberRepository.findById(friend.getFriendUid())
-                        .orElseThrow(()->new MemberException(MemberExceptionType.NOT_FOUND_MEMBER)))
-                .toList();
-
-        if(!friendMembers.isEmpty()){
-            return friendMembers.stream()
-                    .map(FriendInfoDto::toDto)
-                    .collect(Collectors.toList());
+        List<Long> friendUids = friendRepository.findFriendUids(member.getUid(), false);
+        List<FriendInfoDto> friendInfos = findInOrder(friendUids, memberRepository::findFriendInfos, FriendInfoDto::getFriendUid);
+
+        if(!friendInfos.isEmpty()){
+            return friendInfos;
         } else {
             return null;
         }
     }
 
-    // 차단 등록
+    // 차단 등록 (이미 친구 또는 차단 관계면 차단으로 변경)
     public void createBlock(FriendUpdateDto friendUpdateDto) throws Exception {
         Member member = memberRepository.findByMemberEmail(SecurityUtil.getLoginUsername()).orElseThrow(()->new MemberException(MemberExceptionType.NOT_FOUND_MEMBER));
-        Friend block = Friend.builder().member(member).friendUid(friendUpdateDto.friendUid()).isBlock(true).build();
-        friendRepository.save(block);
-        member.addFriend(block);
+        upsertRelation(member, friendUpdateDto.friendUid(), true);
     }
 
     // 차단 해제
     public void deleteBlock(FriendUpdateDto friendUpdateDto) throws Exception {
         Member member = memberRepository.findByMemberEmail(SecurityUtil.getLoginUsername()).orElseThrow(()->new MemberException(MemberExceptionType.NOT_FOUND_MEMBER));
-        Optional<Friend> blockToRemove = member.getFriendList().stream()
-                .filter(friend -> friend.getFriendUid().equals(friendUpdateDto.friendUid())).findFirst();
-        if(blockToRemove.isPresent()){
-            Friend block = blockToRemove.get();
-            friendRepository.delete(block);
-            member.deleteFriend(block);
-        } else {
+        if (!deleteRelation(member, friendUpdateDto.friendUid())) {
             throw new Exception("Blocked friend not found with ID: " + friendUpdateDto.friendUid());
         }
     }
 
-    // 내 차단 목록 조회
+    // (회원, 상대) 관계를 INSERT ... ON DUPLICATE KEY UPDATE 한 번으로 저장 (friendList 로딩 X, 재시도해도 한 행)
+    private void upsertRelation(Member member, Long friendUid, boolean isBlock) {
+        friendRepository.upsert(member.getUid(), friendUid, isBlock);
+
+        // 이미 로딩된 friendList가 있으면 DB와 맞춤 (로딩 전이면 다음 접근 때 DB에서 읽음)
+        if (Hibernate.isInitialized(member.getFriendList())) {
+            Optional<Friend> loaded = member.getFriendList().stream()
+                    .filter(friend -> friend.getFriendUid().equals(friendUid)).findFirst();
+            if (loaded.isPresent()) loaded.get().updateBlock(isBlock);
+            else friendRepository.findRelation(member.getUid(), friendUid).ifPresent(member::addFriend);
+        }
+
+        friendGraph.removed(member.getUid(), friendUid, !isBlock);
+        friendGraph.added(member.getUid(), friendUid, isBlock);
+        eventPublisher.publishEvent(new FriendChangedEvent(member.getUid()));
+    }
+
+    // (회원, 상대) 관계를 DELETE 한 번으로 삭제, 삭제된 행이 없으면 false
+    private boolean deleteRelation(Member member, Long friendUid) {
+        if (friendRepository.deleteRelation(member.getUid(), friendUid) == 0)
+            return false;
+
+        if (Hibernate.isInitialized(member.getFriendList())) {
+            member.getFriendList().stream()
+                    .filter(friend -> friend.getFriendUid().equals(friendUid))
+                    .toList()
+                    .forEach(member::deleteFriend);
+        }
+
+        friendGraph.removed(member.getUid(), friendUid, false);
+        friendGraph.removed(member.getUid(), friendUid, true);
+        eventPublisher.publishEvent(new FriendChangedEvent(member.getUid()));
+        return true;
+    }
+
+    // 내 차단 목록 조회 (차단 uid 조회 1번 + 회원 정보 IN 조회 500명당 1번)
     public List<BlockInfoDto> getMyBlocks() throws Exception {
         Member member = memberRepository.findByMemberEmail(SecurityUtil.getLoginUsername()).orElseThrow(()->new MemberException(MemberExceptionType.NOT_FOUND_MEMBER));
-        List<Member> blockMembers = member.getFriendList().stream()
-                .filter(friend -> friend.getIsBlock().equals(true))
-                .map(friend -> memberRepository.findById(friend.getFriendUid())
-                        .orElseThrow(()->new MemberException(MemberExceptionType.NOT_FOUND_MEMBER)))
-                .toList();
-
-        if(!blockMembers.isEmpty()){
-            return blockMembers.stream()
-                    .map(BlockInfoDto::toDto)
-                    .collect(Collectors.toList());
+        List<Long> blockUids = friendRepository.findFriendUids(member.getUid(), true);
+        List<BlockInfoDto> blockInfos = findInOrder(blockUids, memberRepository::findBlockInfos, BlockInfoDto::getBlockUid);
+
+        if(!blockInfos.isEmpty()){
+            return blockInfos;
         } else {
             return null;
         }
     }
+
+    // uid 목록을 IN_CHUNK_SIZE씩 나눠 조회한 뒤 uid 목록 순서대로 정렬 (없는 회원이 있으면 예외)
+    private <T> List<T> findInOrder(List<Long> uids, Function<List<Long>, List<T>> query, Function<T, Long> uidOf) {
+        Map<Long, T> found = new HashMap<>();
+        for (int from = 0; from < uids.size(); from += IN_CHUNK_SIZE) {
+            List<Long> chunk = uids.subList(from, Math.min(from + IN_CHUNK_SIZE, uids.size()));
+            query.apply(chunk).forEach(info -> found.put(uidOf.apply(info), info));
+        }
+
+        List<T> result = new ArrayList<>(uids.size());
+        for (Long uid : uids) {
+            T info = found.get(uid);
+            if (info == null) throw new MemberException(MemberExceptionType.NOT_FOUND_MEMBER);
+            result.add(info);
+        }
+        return result;
+    }
 }
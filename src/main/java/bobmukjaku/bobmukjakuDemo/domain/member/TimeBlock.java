@@ -18,9 +18,12 @@ import static jakarta.persistence.FetchType.LAZY;
 @Entity
 public class TimeBlock {
 
+    // 시간표를 한 번에 batch insert 하도록 시퀀스 id 사용 (IDENTITY는 JDBC batch 불가)
+    // 시퀀스: resources/db/014_time_table_filter_info_seq.sql
     @Id
     @Column(name = "id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "time_table_seq_generator")
+    @SequenceGenerator(name = "time_table_seq_generator", sequenceName = "time_table_seq", allocationSize = 50)
     private Long TimeBlockId;
 
     @Column(name = "dayOfWeek")
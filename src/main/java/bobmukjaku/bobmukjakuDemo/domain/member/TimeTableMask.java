@@ -0,0 +1,88 @@
+package bobmukjaku.bobmukjakuDemo.domain.member;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public final class TimeTableMask {
+
+    /*
+    * 시간표를 7일 x 48칸(30분 단위) 비트셋으로 표현
+    * - 칸 번호 = (요일 - 1) * 48 + 시작 시간의 30분 칸 (요일: 1=월 ~ 7=일)
+    * - 모집방은 같은 방식으로 계산한 time_slot 컬럼을 가지고 있으므로
+    *   시간표 필터는 time_slot NOT IN (겹치는 칸) 하나로 처리
+    * */
+
+    public static final int DAYS = 7;
+    public static final int SLOTS_PER_DAY = 48;
+    public static final int SLOT_COUNT = DAYS * SLOTS_PER_DAY;
+
+    private final long[] words = new long[(SLOT_COUNT + 63) / 64];
+
+    // TimeBlock 목록을 비트셋으로 변환
+    public static TimeTableMask of(Collection<TimeBlock> timeBlocks) {
+        TimeTableMask mask = new TimeTableMask();
+        for (TimeBlock timeBlock : timeBlocks) {
+            if (timeBlock.getDayOfWeek() != null && timeBlock.getTime() != null)
+                mask.add(timeBlock.getDayOfWeek(), timeBlock.getTime());
+        }
+        return mask;
+    }
+
+    // 요일(1~7), 시간 -> 칸 번호
+    public static int slotIndex(int dayOfWeek, LocalTime time) {
+        if (dayOfWeek < 1 || dayOfWeek > DAYS)
+            throw new IllegalArgumentException("잘못된 요일입니다: " + dayOfWeek);
+        return (dayOfWeek - 1) * SLOTS_PER_DAY + slotOfDay(time);
+    }
+
+    // 시간 -> 하루 안에서의 칸 번호 (0 ~ 47)
+    public static int slotOfDay(LocalTime time) {
+        return time.getHour() * 2 + time.getMinute() / 30;
+    }
+
+    // 모임 날짜, 시작 시간 -> 칸 번호 (둘 중 하나라도 없으면 null)
+    public static Integer slotIndex(LocalDate date, LocalTime time) {
+        if (date == null || time == null)
+            return null;
+        return slotIndex(date.getDayOfWeek().getValue(), time);
+    }
+
+    public void add(int dayOfWeek, LocalTime time) {
+        int slot = slotIndex(dayOfWeek, time);
+        words[slot >>> 6] |= 1L << slot;
+    }
+
+    public boolean contains(int slot) {
+        return (words[slot >>> 6] & (1L << slot)) != 0;
+    }
+
+    // 해당 날짜, 시작 시간의 모임이 시간표와 겹치는지
+    public boolean conflicts(LocalDate date, LocalTime startTime) {
+        Integer slot = slotIndex(date, startTime);
+        return slot != null && contains(slot);
+    }
+
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) return false;
+        }
+        return true;
+    }
+
+    // 채워진 칸 번호 목록 (오름차순)
+    public List<Integer> slots() {
+        List<Integer> slots = new ArrayList<>();
+        for (int i = 0; i < words.length; i++) {
+            long word = words[i];
+            while (word != 0) {
+                slots.add(i * 64 + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return slots;
+    }
+
+}
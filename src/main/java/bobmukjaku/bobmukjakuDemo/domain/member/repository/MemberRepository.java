@@ -1,10 +1,16 @@
 package bobmukjaku.bobmukjakuDemo.domain.member.repository;
 
+import bobmukjaku.bobmukjakuDemo.domain.friend.dto.BlockInfoDto;
+import bobmukjaku.bobmukjakuDemo.domain.friend.dto.FriendInfoDto;
 import bobmukjaku.bobmukjakuDemo.domain.member.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
@@ -14,4 +20,14 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     boolean existsByMemberNickName(String nickName); // 닉네임으로 회원 여부 판단
     Optional<Member> findByRefreshToken(String refreshToken); // refreshToken으로 회원 조회
 
+    // uid 목록의 친구 목록 화면 정보 조회 (엔티티 로딩 X, 순서 보장 X)
+    @Query("select new bobmukjaku.bobmukjakuDemo.domain.friend.dto.FriendInfoDto(m.uid, m.memberNickName, m.rate, m.profileColor) " +
+            "from Member m where m.uid in :uids")
+    List<FriendInfoDto> findFriendInfos(@Param("uids") Collection<Long> uids);
+
+    // uid 목록의 차단 목록 화면 정보 조회 (엔티티 로딩 X, 순서 보장 X)
+    @Query("select new bobmukjaku.bobmukjakuDemo.domain.friend.dto.BlockInfoDto(m.uid, m.memberNickName, m.rate, m.profileColor) " +
+            "from Member m where m.uid in :uids")
+    List<BlockInfoDto> findBlockInfos(@Param("uids") Collection<Long> uids);
+
 }
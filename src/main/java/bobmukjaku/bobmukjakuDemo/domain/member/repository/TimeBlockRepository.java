@@ -2,6 +2,14 @@ package bobmukjaku.bobmukjakuDemo.domain.member.repository;
 
 import bobmukjaku.bobmukjakuDemo.domain.member.TimeBlock;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface TimeBlockRepository extends JpaRepository<TimeBlock, Long> {
+
+    // 회원의 시간표 일괄 삭제 (DELETE 한 번)
+    @Modifying(flushAutomatically = true)
+    @Query("delete from TimeBlock t where t.member.uid = :uid")
+    int deleteAllByUid(@Param("uid") Long uid);
 }
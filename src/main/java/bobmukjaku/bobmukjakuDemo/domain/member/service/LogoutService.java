@@ -1,25 +1,27 @@
 package bobmukjaku.bobmukjakuDemo.domain.member.service;
 
 import bobmukjaku.bobmukjakuDemo.global.jwt.service.JwtServiceImpl;
-import bobmukjaku.bobmukjakuDemo.global.utility.RedisUtil;
+import bobmukjaku.bobmukjakuDemo.global.jwt.service.TokenBlacklist;
 import bobmukjaku.bobmukjakuDemo.global.utility.SecurityUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class LogoutService {
 
-    private final RedisUtil redisUtil;
+    private final TokenBlacklist tokenBlacklist;
     private final JwtServiceImpl jwtService;
 
     public void logout(HttpServletRequest request) {
         String username = SecurityUtil.getLoginUsername();
         String accessToken = jwtService.extractAccessToken(request).get();
         jwtService.deleteRefreshToken(username);
-        redisUtil.setBlackList(accessToken, "accessToken", 60);
+        tokenBlacklist.add(accessToken, Duration.ofMinutes(60)); // 토큰 원문 대신 해시를 키로 저장
     }
 }
@@ -0,0 +1,18 @@
+package bobmukjaku.bobmukjakuDemo.domain.member.service;
+
+import bobmukjaku.bobmukjakuDemo.global.cache.CachedEntity;
+import bobmukjaku.bobmukjakuDemo.global.cache.EntityChangedEvent;
+
+// 회원 정보(닉네임, 매너온도, 시간표, 탈퇴 등)가 바뀌었을 때 발행
+public record MemberChangedEvent(Long uid) implements EntityChangedEvent {
+
+    @Override
+    public CachedEntity entity() {
+        return CachedEntity.MEMBER;
+    }
+
+    @Override
+    public Long id() {
+        return uid;
+    }
+}
@@ -2,8 +2,12 @@ package bobmukjaku.bobmukjakuDemo.domain.member.service;
 
 import bobmukjaku.bobmukjakuDemo.domain.chatroom.ChatRoom;
 import bobmukjaku.bobmukjakuDemo.domain.chatroom.repository.ChatRoomRepository;
+import bobmukjaku.bobmukjakuDemo.domain.chatroom.service.ChatRoomChangedEvent;
 import bobmukjaku.bobmukjakuDemo.domain.chatroom.service.ChatRoomService;
+import bobmukjaku.bobmukjakuDemo.domain.chatroom.service.RoomSeatCounter;
 import bobmukjaku.bobmukjakuDemo.domain.friend.repository.FriendRepository;
+import bobmukjaku.bobmukjakuDemo.domain.friend.service.FriendChangedEvent;
+import bobmukjaku.bobmukjakuDemo.domain.friend.service.FriendGraph;
 import bobmukjaku.bobmukjakuDemo.domain.member.Member;
 import bobmukjaku.bobmukjakuDemo.domain.member.TimeBlock;
 import bobmukjaku.bobmukjakuDemo.domain.member.dto.*;
@@ -12,10 +16,12 @@ import bobmukjaku.bobmukjakuDemo.domain.member.exception.MemberExceptionType;
 import bobmukjaku.bobmukjakuDemo.domain.member.repository.MemberRepository;
 import bobmukjaku.bobmukjakuDemo.domain.member.repository.TimeBlockRepository;
 import bobmukjaku.bobmukjakuDemo.domain.memberchatroom.MemberChatRoom;
+import bobmukjaku.bobmukjakuDemo.domain.notification.service.RoomNotificationService;
 import bobmukjaku.bobmukjakuDemo.domain.place.Review;
 import bobmukjaku.bobmukjakuDemo.global.utility.SecurityUtil;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -33,6 +39,10 @@ public class MemberServiceImpl implements MemberService{
     private final TimeBlockRepository timeBlockRepository;
     private final PasswordEncoder passwordEncoder;
     private final EmailAuthService emailAuthService;
+    private final RoomNotificationService roomNotificationService;
+    private final RoomSeatCounter roomSeatCounter;
+    private final FriendGraph friendGraph;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public void signUp(MemberSignUpDto memberSignUpDto) throws Exception {
@@ -77,6 +87,7 @@ public class MemberServiceImpl implements MemberService{
         memberUpdateDto.certificatedAt().ifPresent(member::updateCertificatedAt);
         memberUpdateDto.rate().ifPresent(member::updateRate);
         memberUpdateDto.toBePassword().ifPresent(password -> member.updatePassword(passwordEncoder, password));
+        eventPublisher.publishEvent(new MemberChangedEvent(member.getUid()));
     }
 
     @Override
@@ -93,15 +104,22 @@ public class MemberServiceImpl implements MemberService{
         if(!memberToWithdraw.getJoiningRooms().isEmpty()){
             for(MemberChatRoom memberChatRoom : memberToWithdraw.getJoiningRooms()){
                 ChatRoom chatRoomToExit = memberChatRoom.getChatRoom();
-                chatRoomToExit.deleteParticipant(memberChatRoom);
-                if(chatRoomToExit.getCurrentNum() == 0) // 마지막 참여자인 경우
+                chatRoomToExit.detachParticipant(memberChatRoom);
+                if(roomSeatCounter.release(chatRoomToExit.getChatRoomId())) { // 마지막 참여자인 경우
                     chatRoomRepository.delete(chatRoomToExit); // 모집방도 삭제
+                    roomSeatCounter.evict(chatRoomToExit.getChatRoomId());
+                    roomNotificationService.cancel(chatRoomToExit.getChatRoomId()); // 예약된 종료 알림 취소
+                }
+                eventPublisher.publishEvent(new ChatRoomChangedEvent(chatRoomToExit.getChatRoomId()));
             }
         }
         // 다른 회원이 memberToWithdraw를 친구 또는 차단으로 등록한 데이터 삭제
+        friendGraph.memberRemoved(memberToWithdraw.getUid(), friendRepository.findOwnerUids(memberToWithdraw.getUid()));
         friendRepository.deleteFriendByFriendUid(memberToWithdraw.getUid());
 
         memberRepository.delete(memberToWithdraw);
+        eventPublisher.publishEvent(new MemberChangedEvent(memberToWithdraw.getUid()));
+        eventPublisher.publishEvent(new FriendChangedEvent(null)); // 여러 회원의 친구/차단 목록이 바뀜
     }
 
     @Override
@@ -121,16 +139,12 @@ public class MemberServiceImpl implements MemberService{
     @Override
     public void updateTimeBlock(List<TimeBlockDto> timeBlockDtoList) throws Exception {
         Member member = memberRepository.findByMemberEmail(SecurityUtil.getLoginUsername()).orElseThrow(()->new MemberException(MemberExceptionType.NOT_FOUND_MEMBER));
-        List<TimeBlock> timeBlocks = timeBlockDtoList.stream().map(timeBlockDto -> timeBlockDto.toEntity(member)).collect(Collectors.toList());
-//        timeBlockRepository.saveAll(timeBlocks);
-
-        List<Long> toDeleteIds = member.getTimeBlockList().stream().map(timeBlock -> timeBlock.getTimeBlockId()).collect(Collectors.toList());
-        if(toDeleteIds != null && !toDeleteIds.isEmpty()){
-            for(Long id : toDeleteIds)
-                timeBlockRepository.deleteById(id);
-        }
+        timeBlockRepository.deleteAllByUid(member.getUid()); // 이전 시간표 한 번에 삭제 (기존 목록 로딩 X)
 
+        List<TimeBlock> timeBlocks = timeBlockDtoList.stream().map(timeBlockDto -> timeBlockDto.toEntity(member)).collect(Collectors.toList());
+        timeBlockRepository.saveAll(timeBlocks); // flush 시 batch insert
         member.updateTimeBlockInfo(timeBlocks);
+        eventPublisher.publishEvent(new MemberChangedEvent(member.getUid()));
     }
 
     @Override
@@ -147,6 +161,7 @@ public class MemberServiceImpl implements MemberService{
         if(((member.getRate() + score) > 100)
         || ((member.getRate() + score) < 0))return;
         member.updateRate(member.getRate() + score);
+        eventPublisher.publishEvent(new MemberChangedEvent(member.getUid()));
     }
 
     @Override
@@ -155,6 +170,7 @@ public class MemberServiceImpl implements MemberService{
                 .orElseThrow(()->new MemberException(MemberExceptionType.NOT_FOUND_MEMBER));
         if(passwordUpdateDto.newPassword().isPresent()){
             member.updatePassword(passwordEncoder, passwordUpdateDto.newPassword().get());
+            eventPublisher.publishEvent(new MemberChangedEvent(member.getUid()));
         }
     }
 
@@ -7,7 +7,8 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
-@Table(name = "member_chatroom")
+// 유니크 제약: resources/db/007_member_chatroom_unique.sql
+@Table(name = "member_chatroom", uniqueConstraints = @UniqueConstraint(name = "uk_member_chatroom_member_chatroom", columnNames = {"member_id", "chatroom_id"})) // 같은 방 중복 참여 방지
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
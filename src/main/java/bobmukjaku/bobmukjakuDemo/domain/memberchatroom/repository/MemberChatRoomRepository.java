@@ -2,12 +2,42 @@ package bobmukjaku.bobmukjakuDemo.domain.memberchatroom.repository;
 
 import bobmukjaku.bobmukjakuDemo.domain.memberchatroom.MemberChatRoom;
 import bobmukjaku.bobmukjakuDemo.domain.chatroom.ChatRoom;
+import bobmukjaku.bobmukjakuDemo.domain.chatroom.dto.ChatRoomJoinerDto;
 import bobmukjaku.bobmukjakuDemo.domain.member.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberChatRoomRepository extends JpaRepository<MemberChatRoom, Long> {
 
     Optional<MemberChatRoom> findMemberChatRoomByChatRoomAndAndJoiner(ChatRoom chatRoom, Member member);
+
+    // 참여 여부만 확인 (member, chatroom 엔티티 로딩 X, uk_member_chatroom_member_chatroom 인덱스만으로 처리)
+    @Query("select count(m) > 0 from MemberChatRoom m where m.chatRoom.chatRoomId = :roomId and m.joiner.uid = :uid")
+    boolean existsByChatRoomIdAndJoinerUid(@Param("roomId") Long roomId, @Param("uid") Long uid);
+
+    // 모집방 참여자 uid 목록
+    @Query("select m.joiner.uid from MemberChatRoom m where m.chatRoom.chatRoomId = :roomId")
+    List<Long> findJoinerUids(@Param("roomId") Long roomId);
+
+    // 모집방들의 (방 id, 참여자 uid) 목록
+    @Query("select new bobmukjaku.bobmukjakuDemo.domain.chatroom.dto.ChatRoomJoinerDto(m.chatRoom.chatRoomId, m.joiner.uid) from MemberChatRoom m " +
+            "where m.chatRoom.chatRoomId in :roomIds")
+    List<ChatRoomJoinerDto> findJoiners(@Param("roomIds") Collection<Long> roomIds);
+
+    // 참여 가능한 모집방들의 (방 id, 참여자 uid) 목록
+    @Query("select new bobmukjaku.bobmukjakuDemo.domain.chatroom.dto.ChatRoomJoinerDto(m.chatRoom.chatRoomId, m.joiner.uid) from MemberChatRoom m " +
+            "where m.chatRoom.meetingDate >= :today and m.chatRoom.currentNum < m.chatRoom.total")
+    List<ChatRoomJoinerDto> findOpenRoomJoiners(@Param("today") LocalDate today);
+
+    // 모집방들의 참여 정보 일괄 삭제
+    @Modifying
+    @Query("delete from MemberChatRoom m where m.chatRoom.chatRoomId in :roomIds")
+    int deleteAllByChatRoomIds(@Param("roomIds") Collection<Long> roomIds);
 }
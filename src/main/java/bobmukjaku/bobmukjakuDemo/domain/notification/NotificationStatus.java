@@ -0,0 +1,10 @@
+package bobmukjaku.bobmukjakuDemo.domain.notification;
+
+public enum NotificationStatus {
+    PENDING, // 전송 대기
+    SCHEDULED, // 한 노드가 가져가 타이밍 휠에 올림 (owner)
+    SENT, // 전송 완료
+    FAILED, // 전송 실패
+    EXPIRED, // 전송 시점이 지나 폐기
+    CANCELED // 모집방 삭제로 취소
+}
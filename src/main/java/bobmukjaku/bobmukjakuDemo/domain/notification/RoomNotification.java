@@ -0,0 +1,40 @@
+package bobmukjaku.bobmukjakuDemo.domain.notification;
+
+import bobmukjaku.bobmukjakuDemo.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 테이블, 인덱스: resources/db/003_room_notification.sql, 003_room_notification_owner.sql
+@Table(name = "room_notification", indexes = @Index(name = "idx_room_notification_status_due_at", columnList = "status, due_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Entity
+@Builder
+public class RoomNotification extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long notificationId;
+
+    @Column(name = "room_id", nullable = false)
+    private Long roomId; // 알림 주제(topic)가 되는 모집방 id
+
+    @Column(name = "due_at", nullable = false)
+    private LocalDateTime dueAt; // 전송 예정 시간
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt; // 실제 전송 시간
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 10, nullable = false)
+    private NotificationStatus status = NotificationStatus.PENDING;
+
+    @Column(name = "owner", length = 36)
+    private String owner; // 알림을 가져가 예약한 노드 (SCHEDULED일 때)
+
+}
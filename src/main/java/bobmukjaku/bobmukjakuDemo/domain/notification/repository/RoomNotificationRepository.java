@@ -0,0 +1,60 @@
+package bobmukjaku.bobmukjakuDemo.domain.notification.repository;
+
+import bobmukjaku.bobmukjakuDemo.domain.notification.NotificationStatus;
+import bobmukjaku.bobmukjakuDemo.domain.notification.RoomNotification;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface RoomNotificationRepository extends JpaRepository<RoomNotification, Long> {
+
+    List<RoomNotification> findByStatusAndDueAtBeforeOrderByDueAt(NotificationStatus status, LocalDateTime dueAt); // dueAt 이전에 전송해야 하는 알림 조회
+
+    // 알림 상태 일괄 변경
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update RoomNotification n set n.status = :status, n.sentAt = :sentAt where n.notificationId in :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") NotificationStatus status, @Param("sentAt") LocalDateTime sentAt);
+
+    // 모집방의 전송 대기, 예약된 알림 취소
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("update RoomNotification n set n.status = bobmukjaku.bobmukjakuDemo.domain.notification.NotificationStatus.CANCELED " +
+            "where n.roomId in :roomIds and n.status in (bobmukjaku.bobmukjakuDemo.domain.notification.NotificationStatus.PENDING, " +
+            "bobmukjaku.bobmukjakuDemo.domain.notification.NotificationStatus.SCHEDULED)")
+    int cancelPending(@Param("roomIds") Collection<Long> roomIds);
+
+    // 전송 대기 알림을 이 노드 것으로 가져감 (다른 노드가 먼저 가져간 알림은 그대로)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update RoomNotification n set n.status = bobmukjaku.bobmukjakuDemo.domain.notification.NotificationStatus.SCHEDULED, n.owner = :owner " +
+            "where n.notificationId in :ids and n.status = bobmukjaku.bobmukjakuDemo.domain.notification.NotificationStatus.PENDING")
+    int claim(@Param("ids") Collection<Long> ids, @Param("owner") String owner);
+
+    // ids 중 아직 owner가 예약 중인 알림 id (취소됐거나 다른 노드가 가져간 알림 제외)
+    @Query("select n.notificationId from RoomNotification n where n.notificationId in :ids and n.owner = :owner " +
+            "and n.status = bobmukjaku.bobmukjakuDemo.domain.notification.NotificationStatus.SCHEDULED")
+    List<Long> findScheduledIds(@Param("ids") Collection<Long> ids, @Param("owner") String owner);
+
+    // owner가 예약하지 못한 알림을 다시 전송 대기로 돌림
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update RoomNotification n set n.status = bobmukjaku.bobmukjakuDemo.domain.notification.NotificationStatus.PENDING, n.owner = null " +
+            "where n.notificationId in :ids and n.owner = :owner " +
+            "and n.status = bobmukjaku.bobmukjakuDemo.domain.notification.NotificationStatus.SCHEDULED")
+    int release(@Param("ids") Collection<Long> ids, @Param("owner") String owner);
+
+    // 예정 시간이 한참 지나도록 전송되지 않은 예약(노드 종료 등)을 다시 전송 대기로 돌림
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update RoomNotification n set n.status = bobmukjaku.bobmukjakuDemo.domain.notification.NotificationStatus.PENDING, n.owner = null " +
+            "where n.status = bobmukjaku.bobmukjakuDemo.domain.notification.NotificationStatus.SCHEDULED and n.dueAt < :dueBefore")
+    int releaseStale(@Param("dueBefore") LocalDateTime dueBefore);
+
+}
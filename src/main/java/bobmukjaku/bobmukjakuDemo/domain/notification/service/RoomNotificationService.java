@@ -0,0 +1,243 @@
+package bobmukjaku.bobmukjakuDemo.domain.notification.service;
+
+import bobmukjaku.bobmukjakuDemo.domain.notification.NotificationStatus;
+import bobmukjaku.bobmukjakuDemo.domain.notification.RoomNotification;
+import bobmukjaku.bobmukjakuDemo.domain.notification.repository.RoomNotificationRepository;
+import bobmukjaku.bobmukjakuDemo.global.push.PushDispatcher;
+import bobmukjaku.bobmukjakuDemo.global.push.PushMessage;
+import bobmukjaku.bobmukjakuDemo.global.scheduler.HashedTimingWheel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+public class RoomNotificationService {
+
+    /*
+    * 모집방 종료 알림 예약/전송/취소
+    * - 예약된 알림은 room_notification 테이블에 저장 (재시작 시 복구)
+    * - LOAD_WINDOW 안에 전송할 알림만 타이밍 휠(모집방 id로 예약/취소)에 올림
+    * - 만료된 알림은 PushDispatcher로 넘겨 같은 초에 전송할 알림끼리 묶어서 FCM 전송
+    * - 여러 노드가 같은 알림을 보내지 않도록 PENDING -> SCHEDULED(owner = 이 노드)로 바꾸는 데 성공한 알림만 휠에 올림
+    * - 전송 직전에 아직 이 노드의 SCHEDULED인지 다시 확인 (다른 노드에서 모집방이 삭제돼 취소된 알림 제외)
+    * - 예약한 노드가 내려가 CLAIM_TIMEOUT이 지나도록 전송되지 않은 알림은 다시 PENDING으로 돌려 다른 노드가 가져감
+    * */
+
+    private static final Duration LOAD_WINDOW = Duration.ofMinutes(1); // 메모리에 올려두는 예약 구간
+    private static final Duration EXPIRE_AFTER = Duration.ofMinutes(30); // 이 시간 이상 지난 알림은 전송하지 않음
+    private static final Duration CLAIM_TIMEOUT = Duration.ofMinutes(5); // 예약한 노드가 이 시간이 지나도록 전송하지 않으면 다시 가져감
+    private static final int MAX_PENDING = 100_000; // 휠에 올려둘 수 있는 최대 알림 수 (초과분은 다음 구간에 다시 로딩)
+
+    private final RoomNotificationRepository roomNotificationRepository;
+    private final PushDispatcher pushDispatcher;
+    private final HashedTimingWheel<Long, RoomNotification> timingWheel; // 모집방 id -> 알림
+    private final Set<Long> sendingIds = ConcurrentHashMap.newKeySet(); // 휠에서 꺼내져 전송 중인 알림 id
+    private final String owner = UUID.randomUUID().toString(); // 이 노드(프로세스) 식별자
+
+    private final Timer lagTimer; // 예정 시간과 실제 전송 시간의 차이
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+
+    public RoomNotificationService(RoomNotificationRepository roomNotificationRepository, PushDispatcher pushDispatcher, MeterRegistry meterRegistry) {
+        this.roomNotificationRepository = roomNotificationRepository;
+        this.pushDispatcher = pushDispatcher;
+        this.timingWheel = new HashedTimingWheel<>("room-notification-wheel", 1, TimeUnit.SECONDS, 512, MAX_PENDING, this::send);
+        this.lagTimer = Timer.builder("room.notification.lag").description("알림 예정 시간 대비 전송 지연").register(meterRegistry);
+        this.sentCounter = Counter.builder("room.notification.sent").register(meterRegistry);
+        this.failedCounter = Counter.builder("room.notification.failed").register(meterRegistry);
+        Gauge.builder("room.notification.pending", timingWheel, HashedTimingWheel::size).register(meterRegistry);
+    }
+
+    // 알림 예약 (dueAt에 roomId를 주제로 메시지 전송)
+    public void reserve(Long roomId, LocalDateTime dueAt) {
+        RoomNotification notification = roomNotificationRepository.save(RoomNotification.builder().roomId(roomId).dueAt(dueAt).build());
+        if (dueAt.isBefore(LocalDateTime.now().plus(LOAD_WINDOW))) {
+            // 이번 구간 안에 전송해야 하면 바로 휠에 올림 (모집방 생성이 롤백되면 올리지 않도록 커밋 후)
+            afterCommit(() -> {
+                try {
+                    claimAndSchedule(List.of(notification));
+                } catch (Exception e) { // PENDING으로 남아 다음 구간에 다시 로딩
+                    log.error("알림 예약 실패. 모집방 ID: {}", roomId, e);
+                }
+            });
+        }
+    }
+
+    // 모집방 삭제 시 알림 취소
+    public void cancel(Long roomId) {
+        cancelAll(List.of(roomId));
+    }
+
+    public void cancelAll(Collection<Long> roomIds) {
+        if (roomIds.isEmpty())
+            return;
+        List<Long> canceledRoomIds = List.copyOf(roomIds);
+        roomNotificationRepository.cancelPending(canceledRoomIds);
+        // 다른 노드의 휠에 올라간 알림은 전송 직전 상태 확인에서 걸러짐
+        afterCommit(() -> canceledRoomIds.forEach(timingWheel::cancel));
+    }
+
+    // 서버 시작 시 전송되지 않은 알림 복구
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverPendingNotifications() {
+        timingWheel.start();
+        loadNextWindow();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timingWheel.stop();
+    }
+
+    // 다음 구간 안에 전송할 알림을 휠에 올림
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public void loadNextWindow() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int released = roomNotificationRepository.releaseStale(now.minus(CLAIM_TIMEOUT));
+            if (released > 0)
+                log.warn("예약한 노드가 전송하지 않은 알림 {}건을 다시 가져옵니다.", released);
+            List<RoomNotification> dueNotifications = roomNotificationRepository
+                    .findByStatusAndDueAtBeforeOrderByDueAt(NotificationStatus.PENDING, now.plus(LOAD_WINDOW));
+
+            List<Long> expiredIds = new ArrayList<>();
+            List<RoomNotification> candidates = new ArrayList<>();
+            for (RoomNotification notification : dueNotifications) {
+                if (notification.getDueAt().isBefore(now.minus(EXPIRE_AFTER)))
+                    expiredIds.add(notification.getNotificationId()); // 서버가 내려가 있던 동안 시점이 지나버린 알림
+                else if (!timingWheel.contains(notification.getRoomId()) && !sendingIds.contains(notification.getNotificationId()))
+                    candidates.add(notification);
+            }
+            claimAndSchedule(candidates);
+            if (!expiredIds.isEmpty()) {
+                roomNotificationRepository.updateStatus(expiredIds, NotificationStatus.EXPIRED, null);
+                log.info("전송 시점이 지난 알림 {}건을 폐기합니다.", expiredIds.size());
+            }
+        } catch (Exception e) {
+            log.error("알림 예약 로딩 실패", e);
+        }
+    }
+
+    // 다른 노드가 가져가지 않은 알림만 이 노드 것으로 바꾼 뒤 휠에 올림 (휠이 가득 차면 다시 PENDING)
+    private void claimAndSchedule(List<RoomNotification> notifications) {
+        if (notifications.isEmpty())
+            return;
+        List<Long> ids = notifications.stream().map(RoomNotification::getNotificationId).toList();
+        roomNotificationRepository.claim(ids, owner);
+        Set<Long> claimedIds = new HashSet<>(roomNotificationRepository.findScheduledIds(ids, owner));
+
+        List<Long> rejectedIds = new ArrayList<>();
+        for (RoomNotification notification : notifications) {
+            if (claimedIds.contains(notification.getNotificationId()) && !schedule(notification))
+                rejectedIds.add(notification.getNotificationId());
+        }
+        if (!rejectedIds.isEmpty())
+            roomNotificationRepository.release(rejectedIds, owner);
+    }
+
+    private boolean schedule(RoomNotification notification) {
+        long delay = Duration.between(LocalDateTime.now(), notification.getDueAt()).toMillis();
+        if (timingWheel.schedule(notification.getRoomId(), notification, delay, TimeUnit.MILLISECONDS))
+            return true;
+        log.warn("예약 가능한 알림 수를 초과하여 다음 구간에 다시 예약합니다. 모집방 ID: {}", notification.getRoomId());
+        return false;
+    }
+
+    // 같은 tick에 만료된 알림을 전송 파이프라인에 넘기고, 모두 끝나면 결과를 한 번에 저장
+    private void send(List<RoomNotification> expiredNotifications) {
+        List<RoomNotification> notifications;
+        try { // 예약 후 취소된 알림 제외 (다른 노드에서 모집방이 삭제된 경우)
+            Set<Long> scheduledIds = new HashSet<>(roomNotificationRepository.findScheduledIds(
+                    expiredNotifications.stream().map(RoomNotification::getNotificationId).toList(), owner));
+            notifications = expiredNotifications.stream()
+                    .filter(notification -> scheduledIds.contains(notification.getNotificationId()))
+                    .toList();
+        } catch (Exception e) { // 상태를 확인할 수 없으면 보내지 않음 (CLAIM_TIMEOUT 뒤 다시 로딩)
+            log.error("모집방 알림 상태 확인 실패", e);
+            return;
+        }
+        if (notifications.isEmpty())
+            return;
+
+        notifications.forEach(notification -> sendingIds.add(notification.getNotificationId()));
+        List<CompletableFuture<Boolean>> results = notifications.stream()
+                .map(notification -> pushDispatcher.dispatch(new PushMessage(
+                        notification.getRoomId().toString(), Map.of("roomId", notification.getRoomId().toString()))))
+                .toList();
+
+        CompletableFuture.allOf(results.toArray(new CompletableFuture[0]))
+                .whenCompleteAsync((ignored, error) -> saveResults(notifications, results)); // 전송 스레드를 막지 않도록 별도 스레드에서 저장
+    }
+
+    private void saveResults(List<RoomNotification> notifications, List<CompletableFuture<Boolean>> results) {
+        LocalDateTime sentAt = LocalDateTime.now();
+        List<Long> sentIds = new ArrayList<>();
+        List<Long> failedIds = new ArrayList<>();
+        List<Long> retryIds = new ArrayList<>();
+        for (int i = 0; i < notifications.size(); i++) {
+            RoomNotification notification = notifications.get(i);
+            CompletableFuture<Boolean> result = results.get(i);
+            if (result.isCompletedExceptionally()) {
+                retryIds.add(notification.getNotificationId()); // 큐가 가득 차서 거부됨 -> PENDING으로 돌려 다음 구간에 다시 로딩
+                continue;
+            }
+            if (result.join()) {
+                sentIds.add(notification.getNotificationId());
+                lagTimer.record(Duration.between(notification.getDueAt(), sentAt));
+            } else {
+                failedIds.add(notification.getNotificationId());
+            }
+        }
+
+        try {
+            if (!sentIds.isEmpty())
+                roomNotificationRepository.updateStatus(sentIds, NotificationStatus.SENT, sentAt);
+            if (!failedIds.isEmpty())
+                roomNotificationRepository.updateStatus(failedIds, NotificationStatus.FAILED, null);
+            if (!retryIds.isEmpty())
+                roomNotificationRepository.release(retryIds, owner);
+        } catch (Exception e) {
+            log.error("모집방 알림 상태 저장 실패", e);
+        }
+        notifications.forEach(notification -> sendingIds.remove(notification.getNotificationId()));
+        sentCounter.increment(sentIds.size());
+        failedCounter.increment(failedIds.size());
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+}
@@ -0,0 +1,76 @@
+package bobmukjaku.bobmukjakuDemo.global.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class CacheInvalidationBus implements MessageListener {
+
+    /*
+    * Redis pub/sub 기반 노드 간 캐시 무효화
+    * - 서비스가 발행한 EntityChangedEvent를 커밋 후 cache:invalidation 채널로 전달
+    * - 다른 노드는 메시지를 받아 해당 엔티티의 LocalCacheInvalidator 호출 (자기 노드가 보낸 메시지는 무시)
+    * - 여러 건이 한 번에 바뀐 경우 id 목록을 메시지 하나로 전달 (ids를 모르는 이전 버전 노드는 id가 null이므로 전체 무효화)
+    * - 발행 노드의 캐시는 각 캐시가 이벤트를 직접 받아 처리
+    * - pub/sub은 전달을 보장하지 않으므로 각 캐시는 주기적인 전체 갱신이나 TTL을 함께 둠
+    * */
+
+    public static final String CHANNEL = "cache:invalidation";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final List<LocalCacheInvalidator> invalidators;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CacheInvalidationBus(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper,
+                                List<LocalCacheInvalidator> invalidators) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.invalidators = invalidators;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void publish(EntityChangedEvent event) {
+        try {
+            String body = objectMapper.writeValueAsString(new CacheInvalidationMessage(nodeId, event.entity(), event.id(), event.ids()));
+            stringRedisTemplate.convertAndSend(CHANNEL, body);
+        } catch (JsonProcessingException | RuntimeException e) { // 이미 커밋된 요청은 실패시키지 않음
+            log.warn("캐시 무효화 메시지 발행 실패 ({} {})", event.entity(), event.id(), e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidationMessage received;
+        try {
+            received = objectMapper.readValue(message.getBody(), CacheInvalidationMessage.class);
+        } catch (IOException e) {
+            log.warn("잘못된 캐시 무효화 메시지", e);
+            return;
+        }
+        if (nodeId.equals(received.origin())) return;
+
+        for (LocalCacheInvalidator invalidator : invalidators) {
+            if (invalidator.entity() != received.entity()) continue;
+            try {
+                if (received.ids() != null) invalidator.invalidateAll(received.ids());
+                else invalidator.invalidate(received.id());
+            } catch (RuntimeException e) {
+                log.warn("로컬 캐시 무효화 실패 ({} {})", received.entity(), received.id(), e);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,7 @@
+package bobmukjaku.bobmukjakuDemo.global.cache;
+
+import java.util.List;
+
+// cache:invalidation 채널로 주고받는 메시지 (origin: 발행한 노드 id, ids가 있으면 id 대신 해당 목록만 무효화)
+public record CacheInvalidationMessage(String origin, CachedEntity entity, Long id, List<Long> ids) {
+}
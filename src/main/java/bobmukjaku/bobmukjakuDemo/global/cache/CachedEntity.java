@@ -0,0 +1,8 @@
+package bobmukjaku.bobmukjakuDemo.global.cache;
+
+// 노드별 메모리 캐시 대상 엔티티 종류
+public enum CachedEntity {
+    CHAT_ROOM, // 모집방 (id: roomId)
+    MEMBER, // 회원 (id: uid)
+    FRIEND // 회원의 친구/차단 목록 (id: 목록 주인 uid)
+}
@@ -0,0 +1,16 @@
+package bobmukjaku.bobmukjakuDemo.global.cache;
+
+import java.util.List;
+
+// 캐시 대상 엔티티가 바뀌었을 때 발행하는 이벤트, 커밋 후 CacheInvalidationBus가 다른 노드에 전달
+public interface EntityChangedEvent {
+
+    CachedEntity entity();
+
+    Long id(); // null이면 해당 종류 전체 (ids가 있으면 무시)
+
+    // 여러 건이 한 번에 바뀌었을 때의 id 목록 (없으면 null)
+    default List<Long> ids() {
+        return null;
+    }
+}
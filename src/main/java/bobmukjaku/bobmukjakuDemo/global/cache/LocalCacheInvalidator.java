@@ -0,0 +1,16 @@
+package bobmukjaku.bobmukjakuDemo.global.cache;
+
+import java.util.Collection;
+
+// 다른 노드에서 엔티티가 바뀌었을 때 이 노드의 메모리 캐시를 비우는 빈
+public interface LocalCacheInvalidator {
+
+    CachedEntity entity();
+
+    void invalidate(Long id); // id가 null이면 전체 무효화
+
+    // 여러 건을 한 번에 무효화 (한 번에 처리할 수 있는 캐시는 재정의)
+    default void invalidateAll(Collection<Long> ids) {
+        ids.forEach(this::invalidate);
+    }
+}
@@ -1,5 +1,7 @@
 package bobmukjaku.bobmukjakuDemo.global.config;
 
+import bobmukjaku.bobmukjakuDemo.global.cache.CacheInvalidationBus;
+import bobmukjaku.bobmukjakuDemo.global.jwt.service.TokenBlacklist;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -8,6 +10,8 @@ import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.data.redis.support.collections.RedisProperties;
 
@@ -42,4 +46,15 @@ public class RedisConfig {
         return redisTemplate;
     }
 
+    // 노드 간 캐시 무효화, 토큰 블랙리스트 메시지 구독 (같은 Lettuce 연결 팩토리 사용)
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(CacheInvalidationBus cacheInvalidationBus,
+                                                                       TokenBlacklist tokenBlacklist) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        container.addMessageListener(cacheInvalidationBus, new ChannelTopic(CacheInvalidationBus.CHANNEL));
+        container.addMessageListener(tokenBlacklist, new ChannelTopic(TokenBlacklist.CHANNEL));
+        return container;
+    }
+
 }
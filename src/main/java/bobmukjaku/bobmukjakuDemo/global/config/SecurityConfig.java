@@ -5,12 +5,15 @@ import bobmukjaku.bobmukjakuDemo.domain.member.repository.MemberRepository;
 import bobmukjaku.bobmukjakuDemo.domain.member.service.LoginService;
 import bobmukjaku.bobmukjakuDemo.global.jwt.filter.JwtAuthenticationProcessingFilter;
 import bobmukjaku.bobmukjakuDemo.global.jwt.service.JwtService;
+import bobmukjaku.bobmukjakuDemo.global.jwt.service.MemberPrincipalCache;
+import bobmukjaku.bobmukjakuDemo.global.jwt.service.TokenBlacklist;
 import bobmukjaku.bobmukjakuDemo.global.login.filter.JsonUsernamePasswordAuthenticationFilter;
 import bobmukjaku.bobmukjakuDemo.global.login.handler.LoginFailureHandler;
 import bobmukjaku.bobmukjakuDemo.global.login.handler.LoginSuccessJWTProvideHandler;
-import bobmukjaku.bobmukjakuDemo.global.utility.RedisUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -36,7 +39,11 @@ public class SecurityConfig {
     private final LoginService loginService;
     private final MemberRepository memberRepository;
     private final JwtService jwtService;
-    private final RedisUtil redisUtil;
+    private final TokenBlacklist tokenBlacklist;
+    private final MemberPrincipalCache memberPrincipalCache;
+
+    @Value("${jwt.stateless-auth:false}")
+    private boolean statelessAuth; // true: access token의 claim만으로 인증 (요청마다 회원 조회 X)
 
     // 인증 없이 접근 가능
     private static final String[] WHITE_LIST = {
@@ -65,6 +72,7 @@ public class SecurityConfig {
                                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(
                         authorize -> authorize
+                                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll() // 비동기 응답(Mono) 재디스패치는 최초 요청에서 이미 인가됨
                                 .requestMatchers(WHITE_LIST).permitAll()
                                 .requestMatchers(USER_LIST).hasRole(String.valueOf(Role.USER)) // USER 권한으로 가능한 요청 경로
                                 .anyRequest().authenticated());
@@ -108,7 +116,7 @@ public class SecurityConfig {
 
     @Bean
     public JwtAuthenticationProcessingFilter jwtAuthenticationProcessingFilter(){
-        JwtAuthenticationProcessingFilter jsonUsernamePasswordLoginFilter = new JwtAuthenticationProcessingFilter(jwtService, memberRepository, redisUtil);
+        JwtAuthenticationProcessingFilter jsonUsernamePasswordLoginFilter = new JwtAuthenticationProcessingFilter(jwtService, memberRepository, tokenBlacklist, memberPrincipalCache, statelessAuth);
 
         return jsonUsernamePasswordLoginFilter;
     }
@@ -0,0 +1,64 @@
+package bobmukjaku.bobmukjakuDemo.global.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+@Configuration
+public class WebClientConfig {
+
+    /*
+    * 욕설 감지 서버용 WebClient (싱글톤, 연결 풀 공유)
+    * - keep-alive 연결을 재사용해 메시지마다 TCP 연결, Netty 리소스를 새로 만들지 않음
+    * - 풀이 가득 차면 pending-acquire-timeout 동안만 대기
+    * - 유휴 연결은 서버가 끊기 전에 정리 (max-idle-time)
+    * */
+
+    @Value("${app.profanity.base-url}")
+    private String baseUrl;
+
+    @Value("${app.profanity.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${app.profanity.connect-timeout-ms:1000}")
+    private int connectTimeoutMillis;
+
+    @Value("${app.profanity.response-timeout-ms:2000}")
+    private long responseTimeoutMillis;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider profanityConnectionProvider() {
+        return ConnectionProvider.builder("profanity")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(responseTimeoutMillis))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .maxLifeTime(Duration.ofMinutes(5))
+                .evictInBackground(Duration.ofSeconds(30))
+                .build();
+    }
+
+    @Bean
+    public WebClient profanityWebClient(ConnectionProvider profanityConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(profanityConnectionProvider)
+                .keepAlive(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMillis));
+
+        return WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .build();
+    }
+
+}
@@ -1,9 +1,10 @@
 package bobmukjaku.bobmukjakuDemo.global.jwt.filter;
 
-import bobmukjaku.bobmukjakuDemo.domain.member.Member;
 import bobmukjaku.bobmukjakuDemo.domain.member.repository.MemberRepository;
 import bobmukjaku.bobmukjakuDemo.global.jwt.service.JwtService;
-import bobmukjaku.bobmukjakuDemo.global.utility.RedisUtil;
+import bobmukjaku.bobmukjakuDemo.global.jwt.service.MemberPrincipalCache;
+import bobmukjaku.bobmukjakuDemo.global.jwt.service.TokenBlacklist;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,13 +21,16 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final MemberRepository memberRepository;
-    private final RedisUtil redisUtil;
+    private final TokenBlacklist tokenBlacklist;
+    private final MemberPrincipalCache memberPrincipalCache;
+    private final boolean statelessAuth; // true: role claim이 있는 토큰은 회원 조회 없이 인증
 
     private GrantedAuthoritiesMapper authoritiesMapper = new NullAuthoritiesMapper();
 
@@ -35,6 +39,8 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
     /*
     * 1. refresh token이 오는 경우 -> 토큰 검사 후 유효하면 access token 재발급, 필터 진행하지 않고 튕김
     * 2. access token만 오는 경우 -> 유저 정보 저장 후 필터 진행
+    *    - statelessAuth: 토큰의 username, role claim으로 principal 생성 (DB 조회 X)
+    *    - 그 외(또는 role claim이 없는 이전 토큰): MemberPrincipalCache -> DB 조회
     * */
 
     @Override
@@ -59,34 +65,37 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
 
     private void checkAccessTokenAndAuthentication(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
-        jwtService.extractAccessToken(request).filter(jwtService::isTokenValid).ifPresent(
-                accessToken -> {
-                    if (redisUtil.hasKeyBlackList(accessToken)) {
-                        try {
-                            response.sendError(401);
-                        } catch (IOException e) {
-                            throw new RuntimeException(e);
-                        }
-                    }
-                    jwtService.extractUsername(accessToken).ifPresent(
-
-                            username -> memberRepository.findByMemberEmail(username).ifPresent(
-                                    this::saveAuthentication
-                            )
-                    );
-                }
-        );
+        Optional<String> accessToken = jwtService.extractAccessToken(request);
+        Optional<DecodedJWT> verified = accessToken.flatMap(jwtService::verify); // 검증과 claim 추출을 한 번에
+        if (verified.isPresent()) {
+            if (tokenBlacklist.contains(accessToken.get())) { // 로그아웃된 토큰은 인증하지 않고 바로 응답
+                response.sendError(401);
+                return;
+            }
+            DecodedJWT jwt = verified.get();
+            jwtService.extractUsername(jwt)
+                    .flatMap(username -> loadPrincipal(username, jwt))
+                    .ifPresent(this::saveAuthentication);
+        }
 
         filterChain.doFilter(request,response);
     }
 
-    private void saveAuthentication(Member member) {
-        UserDetails user = User.builder()
-                .username(member.getMemberEmail())
-                .password(member.getMemberPassword())
-                .roles(member.getRole().name())
-                .build();
+    private Optional<UserDetails> loadPrincipal(String username, DecodedJWT jwt) {
+        if (statelessAuth) {
+            Optional<String> role = jwtService.extractRole(jwt);
+            if (role.isPresent()) {
+                return Optional.of(User.builder()
+                        .username(username)
+                        .password("") // 인증 이후에는 비밀번호를 사용하지 않음
+                        .roles(role.get())
+                        .build());
+            }
+        }
+        return memberPrincipalCache.load(username);
+    }
 
+    private void saveAuthentication(UserDetails user) {
         Authentication authentication = new UsernamePasswordAuthenticationToken(user, null, authoritiesMapper.mapAuthorities(user.getAuthorities()));
 
 
@@ -97,7 +106,8 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
 
     private void checkRefreshTokenAndReIssueAccessToken(HttpServletResponse response, String refreshToken) {
         memberRepository.findByRefreshToken(refreshToken).ifPresent(
-                member -> jwtService.sendAccessToken(response, jwtService.createAccessToken(member.getMemberEmail()))
+                member -> jwtService.sendAccessToken(response,
+                        jwtService.createAccessToken(member.getMemberEmail(), member.getUid(), member.getRole().name()))
         );
 
     }
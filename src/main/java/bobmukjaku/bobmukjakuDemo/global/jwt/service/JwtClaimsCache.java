@@ -0,0 +1,55 @@
+package bobmukjaku.bobmukjakuDemo.global.jwt.service;
+
+import bobmukjaku.bobmukjakuDemo.global.utility.HashUtil;
+import bobmukjaku.bobmukjakuDemo.global.utility.LruCache;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.JWTVerifier;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+
+public class JwtClaimsCache {
+
+    /*
+    * 검증을 통과한 토큰의 claim 캐시 (LRU, 최대 maxSize개)
+    * - 키: 토큰의 SHA-256 해시 (토큰 원문은 보관하지 않음)
+    * - 토큰의 exp가 지나면 캐시에서도 무효, 만료 시간이 없는 토큰은 캐시하지 않음
+    * - 같은 access token으로 반복되는 요청은 HMAC 검증, Base64/JSON 파싱 없이 claim 반환
+    * */
+
+    private final JWTVerifier verifier;
+    private final LruCache<ByteBuffer, DecodedJWT> entries;
+
+    public JwtClaimsCache(JWTVerifier verifier, int maxSize) {
+        this.verifier = verifier;
+        this.entries = new LruCache<>(maxSize);
+    }
+
+    // 서명, 만료 검사 후 claim 반환 (유효하지 않으면 empty)
+    public Optional<DecodedJWT> verify(String token) {
+        if (token == null) return Optional.empty();
+        ByteBuffer key = hash(token);
+        DecodedJWT cached = entries.get(key);
+        if (cached != null) return Optional.of(cached);
+
+        DecodedJWT jwt;
+        try {
+            jwt = verifier.verify(token);
+        } catch (JWTVerificationException e) {
+            return Optional.empty();
+        }
+        if (jwt.getExpiresAt() != null)
+            entries.put(key, jwt, jwt.getExpiresAt().getTime());
+        return Optional.of(jwt);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static ByteBuffer hash(String token) {
+        return ByteBuffer.wrap(HashUtil.sha256(token));
+    }
+
+}
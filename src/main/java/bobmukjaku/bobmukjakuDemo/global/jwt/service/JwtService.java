@@ -1,5 +1,6 @@
 package bobmukjaku.bobmukjakuDemo.global.jwt.service;
 
+import com.auth0.jwt.interfaces.DecodedJWT;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -10,6 +11,7 @@ import java.util.Optional;
 public interface JwtService {
 
     String createAccessToken(String username);
+    String createAccessToken(String username, Long uid, String role); // uid, 권한을 claim에 포함 (stateless 인증용)
     String createRefreshToken();
 
     void updateRefreshToken(String username, String refreshToken);
@@ -21,6 +23,10 @@ public interface JwtService {
     Optional<String> extractAccessToken(HttpServletRequest request);
     Optional<String> extractRefreshToken(HttpServletRequest request);
     Optional<String> extractUsername(String accessToken);
+    Optional<String> extractUsername(DecodedJWT jwt);
+    Optional<String> extractRole(DecodedJWT jwt);
+
+    Optional<DecodedJWT> verify(String token); // 서명, 만료 검사 + claim 반환을 한 번에 (검증 결과 캐시)
 
     void setAccessTokenHeader(HttpServletResponse response, String accessToken);
     void setRefreshTokenHeader(HttpServletResponse response, String refreshToken);
@@ -2,13 +2,17 @@ package bobmukjaku.bobmukjakuDemo.global.jwt.service;
 
 import bobmukjaku.bobmukjakuDemo.domain.member.repository.MemberRepository;
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTCreator;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.transaction.Transactional;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -17,6 +21,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
+@Slf4j
 @Transactional
 @Service
 @RequiredArgsConstructor
@@ -33,21 +38,42 @@ public class JwtServiceImpl implements JwtService{
     private String accessHeader;
     @Value("${jwt.refresh.header}")
     private String refreshHeader;
+    @Value("${jwt.claims-cache.max-size:10000}")
+    private int claimsCacheMaxSize;
 
     private static final String ACCESS_TOKEN_SUBJECT = "AccessToken";
     private static final String REFRESH_TOKEN_SUBJECT = "RefreshToken";
     private static final String USERNAME_CLAIM = "username";
+    private static final String UID_CLAIM = "uid";
+    private static final String ROLE_CLAIM = "role";
     private static final String BEARER = "Bearer ";
 
     private final MemberRepository memberRepository;
 
+    // 서명 알고리즘, 검증기는 스레드 안전하므로 한 번만 생성해서 재사용
+    private Algorithm algorithm;
+    private JwtClaimsCache claimsCache;
+
+    @PostConstruct
+    public void init() {
+        algorithm = Algorithm.HMAC512(secret);
+        claimsCache = new JwtClaimsCache(JWT.require(algorithm).build(), claimsCacheMaxSize);
+    }
+
     @Override
     public String createAccessToken(String username) {
-        return JWT.create()
+        return createAccessToken(username, null, null);
+    }
+
+    @Override
+    public String createAccessToken(String username, Long uid, String role) {
+        JWTCreator.Builder builder = JWT.create()
                 .withSubject(ACCESS_TOKEN_SUBJECT)
                 .withExpiresAt(new Date(System.currentTimeMillis()+accessTokenValidityInSeconds*1000))
-                .withClaim(USERNAME_CLAIM, username)
-                .sign(Algorithm.HMAC512(secret));
+                .withClaim(USERNAME_CLAIM, username);
+        if (uid != null) builder.withClaim(UID_CLAIM, uid);
+        if (role != null) builder.withClaim(ROLE_CLAIM, role);
+        return builder.sign(algorithm);
     }
 
     @Override
@@ -55,7 +81,7 @@ public class JwtServiceImpl implements JwtService{
         return JWT.create()
                 .withSubject(REFRESH_TOKEN_SUBJECT)
                 .withExpiresAt(new Date(System.currentTimeMillis()+refreshTokenValidityInSeconds*1000))
-                .sign(Algorithm.HMAC512(secret));
+                .sign(algorithm);
     }
 
     @Override
@@ -119,12 +145,22 @@ public class JwtServiceImpl implements JwtService{
 
     @Override
     public Optional<String> extractUsername(String accessToken) {
-        try {
-            return Optional.ofNullable(JWT.require(Algorithm.HMAC512(secret)).build().verify(accessToken).getClaim(USERNAME_CLAIM).asString());
-        }catch (Exception e){
-            System.out.println(e.getMessage());
-            return Optional.empty();
-        }
+        return verify(accessToken).flatMap(this::extractUsername);
+    }
+
+    @Override
+    public Optional<String> extractUsername(DecodedJWT jwt) {
+        return Optional.ofNullable(jwt.getClaim(USERNAME_CLAIM).asString());
+    }
+
+    @Override
+    public Optional<String> extractRole(DecodedJWT jwt) {
+        return Optional.ofNullable(jwt.getClaim(ROLE_CLAIM).asString());
+    }
+
+    @Override
+    public Optional<DecodedJWT> verify(String token) {
+        return claimsCache.verify(token);
     }
 
     @Override
@@ -139,12 +175,9 @@ public class JwtServiceImpl implements JwtService{
 
     @Override
     public boolean isTokenValid(String token){
-        try{
-            JWT.require(Algorithm.HMAC512(secret)).build().verify(token);
+        if (verify(token).isPresent())
             return true;
-        }catch (Exception e){
-            System.out.println("유효하지 않은 Token입니다.");
-            return false;
-        }
+        log.debug("유효하지 않은 Token입니다.");
+        return false;
     }
 }
@@ -0,0 +1,79 @@
+package bobmukjaku.bobmukjakuDemo.global.jwt.service;
+
+import bobmukjaku.bobmukjakuDemo.domain.member.Member;
+import bobmukjaku.bobmukjakuDemo.domain.member.repository.MemberRepository;
+import bobmukjaku.bobmukjakuDemo.global.cache.CachedEntity;
+import bobmukjaku.bobmukjakuDemo.global.cache.EntityChangedEvent;
+import bobmukjaku.bobmukjakuDemo.global.cache.LocalCacheInvalidator;
+import bobmukjaku.bobmukjakuDemo.global.utility.LruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+
+@Component
+public class MemberPrincipalCache implements LocalCacheInvalidator {
+
+    /*
+    * DB 회원 정보로 만든 인증 principal 캐시 (username -> UserDetails, LRU + TTL)
+    * - claim에 권한이 없는 토큰이거나 stateless 인증을 끈 경우 사용
+    * - 회원 정보가 바뀌면 MemberChangedEvent(이 노드) / CacheInvalidationBus(다른 노드)로 무효화
+    * - ttl-seconds가 0이면 캐시하지 않고 매번 DB 조회
+    * */
+
+    private final MemberRepository memberRepository;
+    private final long ttlMillis;
+    private final LruCache<String, Principal> entries;
+
+    // uid는 회원 변경 시 무효화용
+    private record Principal(Long uid, UserDetails user) {
+    }
+
+    public MemberPrincipalCache(MemberRepository memberRepository,
+                                @Value("${jwt.principal-cache.ttl-seconds:30}") long ttlSeconds,
+                                @Value("${jwt.principal-cache.max-size:10000}") int maxSize) {
+        this.memberRepository = memberRepository;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.entries = new LruCache<>(maxSize);
+    }
+
+    public Optional<UserDetails> load(String username) {
+        long now = System.currentTimeMillis();
+        Principal cached = entries.get(username);
+        if (cached != null) return Optional.of(cached.user());
+
+        Optional<Member> member = memberRepository.findByMemberEmail(username);
+        if (member.isEmpty()) return Optional.empty();
+
+        UserDetails user = User.builder()
+                .username(member.get().getMemberEmail())
+                .password(member.get().getMemberPassword())
+                .roles(member.get().getRole().name())
+                .build();
+        if (ttlMillis > 0)
+            entries.put(username, new Principal(member.get().getUid(), user), now + ttlMillis);
+        return Optional.of(user);
+    }
+
+    // 이 노드에서 회원 정보가 바뀐 경우
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.entity() == CachedEntity.MEMBER) invalidate(event.id());
+    }
+
+    @Override
+    public CachedEntity entity() {
+        return CachedEntity.MEMBER;
+    }
+
+    @Override
+    public void invalidate(Long uid) {
+        if (uid == null) entries.clear();
+        else entries.removeIf(principal -> uid.equals(principal.uid()));
+    }
+
+}
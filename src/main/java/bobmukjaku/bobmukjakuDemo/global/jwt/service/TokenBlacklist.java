@@ -0,0 +1,146 @@
+package bobmukjaku.bobmukjakuDemo.global.jwt.service;
+
+import bobmukjaku.bobmukjakuDemo.global.utility.BloomFilter;
+import bobmukjaku.bobmukjakuDemo.global.utility.HashUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Component
+public class TokenBlacklist implements MessageListener {
+
+    /*
+    * 로그아웃한 access token 블랙리스트
+    * - Redis: blacklist:{토큰 SHA-256 hex} (TTL 동안 유지) + blacklist:index (hex -> 만료 시각, 동기화용)
+    * - 노드마다 현재 블랙리스트의 Bloom filter를 두고, 필터에 없으면 Redis 조회 없이 통과
+    * - 필터에 있을 때만(실제 블랙리스트 또는 오탐) Redis에서 확인
+    * - 다른 노드의 로그아웃은 token:blacklist 채널로 바로 반영, 메시지 유실과 만료는 주기적인 전체 재구성으로 처리
+    * - 재구성이 오래 실패하면 필터를 믿지 않고 매번 Redis 조회
+    * - 전환 기간(jwt.blacklist.legacy-fallback=true)에는 이전 방식 키(토큰 원문)도 함께 쓰고 확인
+    *   (배포 전 로그아웃한 토큰 + 배포 중 이전 버전 노드의 로그아웃 반영, 이 동안은 요청마다 Redis 조회)
+    *   모든 노드가 배포되고 이전 키 TTL(60분)이 지나면 false로 변경
+    * */
+
+    public static final String CHANNEL = "token:blacklist";
+    static final String KEY_PREFIX = "blacklist:";
+    static final String INDEX_KEY = "blacklist:index";
+    private static final String LEGACY_VALUE = "accessToken"; // 이전 RedisUtil.setBlackList 값
+
+    // ARGV[1]: TTL(초), ARGV[2]: 만료 시각(ms), ARGV[3]: 현재 시각(ms), ARGV[4]: 토큰 해시
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('SET', KEYS[1], '1', 'EX', ARGV[1]) " +
+            "redis.call('ZADD', KEYS[2], ARGV[2], ARGV[4]) " +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', ARGV[3]) " +
+            "return 1", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+    private final long syncIntervalMillis;
+    private final boolean legacyFallback;
+
+    private volatile BloomFilter filter;
+    private volatile long lastSyncMillis; // 0: 아직 적재 전
+    private final Object syncLock = new Object();
+    private List<byte[]> addedDuringSync; // 재구성 중 추가된 해시 (새 필터에 다시 넣음)
+
+    public TokenBlacklist(StringRedisTemplate redisTemplate,
+                          @Value("${jwt.blacklist.expected-insertions:100000}") int expectedInsertions,
+                          @Value("${jwt.blacklist.false-positive-rate:0.001}") double falsePositiveRate,
+                          @Value("${jwt.blacklist.sync-interval-ms:5000}") long syncIntervalMillis,
+                          @Value("${jwt.blacklist.legacy-fallback:false}") boolean legacyFallback) {
+        this.redisTemplate = redisTemplate;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.syncIntervalMillis = syncIntervalMillis;
+        this.legacyFallback = legacyFallback;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    public void add(String token, Duration ttl) {
+        byte[] hash = HashUtil.sha256(token);
+        String hex = HashUtil.toHex(hash);
+        long now = System.currentTimeMillis();
+        redisTemplate.execute(ADD_SCRIPT, List.of(KEY_PREFIX + hex, INDEX_KEY),
+                String.valueOf(ttl.toSeconds()), String.valueOf(now + ttl.toMillis()), String.valueOf(now), hex);
+        if (legacyFallback) // 아직 이전 버전인 노드도 로그아웃을 볼 수 있도록
+            redisTemplate.opsForValue().set(token, LEGACY_VALUE, ttl);
+        putLocal(hash);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, hex);
+        } catch (RuntimeException e) { // 다른 노드는 다음 재구성 때 반영
+            log.warn("블랙리스트 전파 실패", e);
+        }
+    }
+
+    public boolean contains(String token) {
+        // 이전 방식 키는 필터에 없으므로 필터보다 먼저 확인
+        if (legacyFallback && Boolean.TRUE.equals(redisTemplate.hasKey(token))) return true;
+        byte[] hash = HashUtil.sha256(token);
+        if (isFilterFresh() && !filter.mightContain(hash)) return false;
+        return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + HashUtil.toHex(hash)));
+    }
+
+    // 다른 노드의 로그아웃
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            putLocal(HashUtil.fromHex(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 블랙리스트 메시지", e);
+        }
+    }
+
+    // 만료되지 않은 블랙리스트로 필터 재구성 (만료된 해시 정리 + 유실된 메시지 보정)
+    @Scheduled(fixedDelayString = "${jwt.blacklist.sync-interval-ms:5000}")
+    public void sync() {
+        synchronized (syncLock) {
+            addedDuringSync = new ArrayList<>();
+        }
+        Set<String> active;
+        try {
+            active = redisTemplate.opsForZSet().rangeByScore(INDEX_KEY, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+        } catch (RuntimeException e) {
+            synchronized (syncLock) {
+                addedDuringSync = null;
+            }
+            log.warn("블랙리스트 동기화 실패", e);
+            return;
+        }
+
+        int size = active == null ? 0 : active.size();
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, size * 2), falsePositiveRate);
+        if (active != null) active.forEach(hex -> rebuilt.put(HashUtil.fromHex(hex)));
+        synchronized (syncLock) {
+            addedDuringSync.forEach(rebuilt::put);
+            addedDuringSync = null;
+            filter = rebuilt;
+            lastSyncMillis = System.currentTimeMillis();
+        }
+    }
+
+    private void putLocal(byte[] hash) {
+        synchronized (syncLock) {
+            filter.put(hash);
+            if (addedDuringSync != null) addedDuringSync.add(hash);
+        }
+    }
+
+    private boolean isFilterFresh() {
+        return System.currentTimeMillis() - lastSyncMillis < syncIntervalMillis * 3;
+    }
+
+}
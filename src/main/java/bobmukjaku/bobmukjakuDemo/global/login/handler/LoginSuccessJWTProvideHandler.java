@@ -1,5 +1,6 @@
 package bobmukjaku.bobmukjakuDemo.global.login.handler;
 
+import bobmukjaku.bobmukjakuDemo.domain.member.Member;
 import bobmukjaku.bobmukjakuDemo.domain.member.repository.MemberRepository;
 import bobmukjaku.bobmukjakuDemo.global.jwt.service.JwtService;
 import bobmukjaku.bobmukjakuDemo.global.utility.RedisUtil;
@@ -16,6 +17,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -33,13 +35,16 @@ public class LoginSuccessJWTProvideHandler extends SimpleUrlAuthenticationSucces
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException, ServletException {
 
         String username = extractUsername(authentication);
-        String accessToken = jwtService.createAccessToken(username);
+        Optional<Member> member = memberRepository.findByMemberEmail(username);
+        String accessToken = member
+                .map(found -> jwtService.createAccessToken(username, found.getUid(), found.getRole().name())) // uid, 권한 claim 포함
+                .orElseGet(() -> jwtService.createAccessToken(username));
         String refreshToken = jwtService.createRefreshToken();
 
         jwtService.sendBothToken(response, accessToken, refreshToken);
 
-        memberRepository.findByMemberEmail(username).ifPresent(
-                member -> member.updateRefreshToken(refreshToken)
+        member.ifPresent(
+                found -> found.updateRefreshToken(refreshToken)
         );
 
         log.info("로그인에 성공합니다. username: {}", username);
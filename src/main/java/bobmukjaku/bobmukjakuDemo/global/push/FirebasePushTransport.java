@@ -0,0 +1,47 @@
+package bobmukjaku.bobmukjakuDemo.global.push;
+
+import com.google.firebase.messaging.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Component
+public class FirebasePushTransport implements PushTransport {
+
+    // 재시도하면 성공할 수 있는 FCM 오류
+    private static final Set<MessagingErrorCode> TRANSIENT_ERRORS = Set.of(
+            MessagingErrorCode.UNAVAILABLE, MessagingErrorCode.INTERNAL, MessagingErrorCode.QUOTA_EXCEEDED);
+
+    @Override
+    public List<PushResult> sendBatch(List<PushMessage> messages) {
+        List<Message> firebaseMessages = messages.stream()
+                .map(message -> Message.builder().putAllData(message.data()).setTopic(message.topic()).build())
+                .toList();
+
+        try {
+            BatchResponse batchResponse = FirebaseMessaging.getInstance().sendEach(firebaseMessages);
+            return batchResponse.getResponses().stream().map(this::toResult).toList();
+        } catch (FirebaseMessagingException e) {
+            log.warn("FCM 일괄 전송 실패: {}", e.getMessagingErrorCode());
+            return Collections.nCopies(messages.size(), isTransient(e) ? PushResult.RETRYABLE : PushResult.FAILED);
+        } catch (Exception e) {
+            log.error("FCM 일괄 전송 실패", e);
+            return Collections.nCopies(messages.size(), PushResult.RETRYABLE);
+        }
+    }
+
+    private PushResult toResult(SendResponse response) {
+        if (response.isSuccessful())
+            return PushResult.SENT;
+        return isTransient(response.getException()) ? PushResult.RETRYABLE : PushResult.FAILED;
+    }
+
+    private boolean isTransient(FirebaseMessagingException e) {
+        return e != null && (e.getMessagingErrorCode() == null || TRANSIENT_ERRORS.contains(e.getMessagingErrorCode()));
+    }
+
+}
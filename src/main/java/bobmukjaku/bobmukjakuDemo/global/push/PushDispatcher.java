@@ -0,0 +1,189 @@
+package bobmukjaku.bobmukjakuDemo.global.push;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+
+@Slf4j
+@Component
+public class PushDispatcher {
+
+    /*
+    * 푸시 알림 전송 파이프라인
+    * - 크기가 제한된 큐에 쌓고, 큐가 가득 차면 바로 거부 (backpressure)
+    * - 같은 초에 들어온 메시지는 최대 500개까지 묶어서 한 번에 전송
+    * - 일시적인 오류는 지수 백오프로 재시도
+    * */
+
+    private static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long BASE_BACKOFF_MILLIS = 200;
+    private static final long MAX_BACKOFF_MILLIS = 10_000;
+
+    private final PushTransport pushTransport;
+    private final BlockingQueue<PendingPush> queue;
+    private final ScheduledExecutorService retryScheduler;
+
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter retriedCounter;
+    private final Counter rejectedCounter;
+    private final DistributionSummary batchSizeSummary;
+
+    private Thread worker;
+    private volatile boolean running;
+
+    @Autowired
+    public PushDispatcher(PushTransport pushTransport, MeterRegistry meterRegistry) {
+        this(pushTransport, meterRegistry, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public PushDispatcher(PushTransport pushTransport, MeterRegistry meterRegistry, int queueCapacity) {
+        this.pushTransport = pushTransport;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "push-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.sentCounter = Counter.builder("push.sent").register(meterRegistry);
+        this.failedCounter = Counter.builder("push.failed").register(meterRegistry);
+        this.retriedCounter = Counter.builder("push.retried").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("push.rejected").description("큐가 가득 차서 거부된 메시지").register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("push.batch.size").register(meterRegistry);
+        Gauge.builder("push.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    // 전송 요청 (전송 성공 시 true, 실패 시 false, 큐가 가득 차면 RejectedExecutionException으로 완료)
+    public CompletableFuture<Boolean> dispatch(PushMessage message) {
+        PendingPush pendingPush = new PendingPush(message);
+        if (!queue.offer(pendingPush)) {
+            rejectedCounter.increment();
+            pendingPush.result.completeExceptionally(new RejectedExecutionException("푸시 전송 큐가 가득 찼습니다."));
+        }
+        return pendingPush.result;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "push-dispatcher");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (worker != null)
+            worker.interrupt();
+        retryScheduler.shutdownNow();
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                List<PendingPush> batch = nextBatch();
+                send(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("푸시 전송 처리 실패", e);
+            }
+        }
+    }
+
+    // 첫 메시지가 들어온 초가 끝날 때까지 들어온 메시지를 최대 MAX_BATCH_SIZE개 묶음
+    private List<PendingPush> nextBatch() throws InterruptedException {
+        List<PendingPush> batch = new ArrayList<>();
+        batch.add(queue.take());
+        long secondEnd = (System.currentTimeMillis() / 1000 + 1) * 1000;
+
+        while (batch.size() < PushTransport.MAX_BATCH_SIZE) {
+            queue.drainTo(batch, PushTransport.MAX_BATCH_SIZE - batch.size());
+            long remaining = secondEnd - System.currentTimeMillis();
+            if (batch.size() >= PushTransport.MAX_BATCH_SIZE || remaining <= 0)
+                break;
+            PendingPush next = queue.poll(remaining, TimeUnit.MILLISECONDS);
+            if (next == null)
+                break;
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void send(List<PendingPush> batch) {
+        batchSizeSummary.record(batch.size());
+        List<PushResult> results;
+        try {
+            results = pushTransport.sendBatch(batch.stream().map(PendingPush::message).toList());
+        } catch (Exception e) {
+            log.error("푸시 전송 실패 ({}건)", batch.size(), e);
+            results = Collections.nCopies(batch.size(), PushResult.RETRYABLE);
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            PendingPush pendingPush = batch.get(i);
+            PushResult result = i < results.size() ? results.get(i) : PushResult.RETRYABLE;
+            switch (result) {
+                case SENT -> {
+                    sentCounter.increment();
+                    pendingPush.result.complete(true);
+                }
+                case RETRYABLE -> retry(pendingPush);
+                default -> fail(pendingPush);
+            }
+        }
+    }
+
+    // 지수 백오프 후 다시 큐에 넣음
+    private void retry(PendingPush pendingPush) {
+        int attempt = ++pendingPush.attempts;
+        if (attempt >= MAX_ATTEMPTS) {
+            fail(pendingPush);
+            return;
+        }
+        retriedCounter.increment();
+        long backoff = Math.min(MAX_BACKOFF_MILLIS, BASE_BACKOFF_MILLIS << (attempt - 1));
+        try {
+            retryScheduler.schedule(() -> {
+                if (!queue.offer(pendingPush))
+                    fail(pendingPush);
+            }, backoff, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            fail(pendingPush); // 종료 중
+        }
+    }
+
+    private void fail(PendingPush pendingPush) {
+        failedCounter.increment();
+        pendingPush.result.complete(false);
+    }
+
+    private static final class PendingPush {
+        private final PushMessage message;
+        private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+        private int attempts;
+
+        private PendingPush(PushMessage message) {
+            this.message = message;
+        }
+
+        private PushMessage message() {
+            return message;
+        }
+    }
+
+}
@@ -0,0 +1,7 @@
+package bobmukjaku.bobmukjakuDemo.global.push;
+
+import java.util.Map;
+
+// 푸시 알림 메시지 (topic 구독자에게 data 전송)
+public record PushMessage(String topic, Map<String, String> data) {
+}
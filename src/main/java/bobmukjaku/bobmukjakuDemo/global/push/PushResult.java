@@ -0,0 +1,7 @@
+package bobmukjaku.bobmukjakuDemo.global.push;
+
+public enum PushResult {
+    SENT, // 전송 성공
+    RETRYABLE, // 일시적인 오류 (재시도)
+    FAILED // 재시도해도 실패하는 오류
+}
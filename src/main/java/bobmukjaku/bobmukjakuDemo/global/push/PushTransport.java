@@ -0,0 +1,12 @@
+package bobmukjaku.bobmukjakuDemo.global.push;
+
+import java.util.List;
+
+public interface PushTransport {
+
+    int MAX_BATCH_SIZE = 500; // 한 번에 전송 가능한 최대 메시지 수 (FCM sendEach 제한)
+
+    // messages를 한 번에 전송하고 메시지별 결과를 같은 순서로 반환
+    List<PushResult> sendBatch(List<PushMessage> messages);
+
+}
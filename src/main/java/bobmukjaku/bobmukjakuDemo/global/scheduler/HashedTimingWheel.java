@@ -0,0 +1,190 @@
+package bobmukjaku.bobmukjakuDemo.global.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+@Slf4j
+public class HashedTimingWheel<K, V> {
+
+    /*
+    * 해시 타이밍 휠 (지연 작업 예약)
+    * - 전송 시각을 tick 단위로 나눠 wheelSize 크기의 원형 배열 칸에 연결 리스트로 저장
+    * - 예약/취소는 key로 찾아 리스트에 붙이거나 떼기만 하므로 O(1)
+    * - 한 tick에 만료된 값들은 묶어서 expiredHandler에 한 번에 전달
+    * - 최대 maxPending개까지만 보관 (초과 시 예약 거부)
+    * */
+
+    private final String name;
+    private final long tickNanos;
+    private final int mask;
+    private final Entry<K, V>[] wheel; // 각 칸의 연결 리스트 head
+    private final Map<K, Entry<K, V>> entries = new HashMap<>(); // key -> 예약 정보
+    private final int maxPending;
+    private final Consumer<List<V>> expiredHandler;
+    private final Object lock = new Object();
+    private final long startTime; // 휠 기준 시간 (nanoTime)
+
+    private Thread worker;
+    private volatile boolean running;
+    private long tick; // 다음에 처리할 tick
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(String name, long tickDuration, TimeUnit unit, int wheelSize, int maxPending, Consumer<List<V>> expiredHandler) {
+        if (tickDuration <= 0 || wheelSize <= 0 || maxPending <= 0)
+            throw new IllegalArgumentException("tickDuration, wheelSize, maxPending은 0보다 커야 합니다.");
+        int size = (wheelSize == 1) ? 1 : Integer.highestOneBit(wheelSize - 1) << 1; // 2의 거듭제곱으로 맞춤
+        this.name = name;
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.wheel = (Entry<K, V>[]) new Entry[size];
+        this.mask = size - 1;
+        this.maxPending = maxPending;
+        this.expiredHandler = expiredHandler;
+        this.startTime = System.nanoTime();
+    }
+
+    public void start() {
+        synchronized (lock) {
+            if (running)
+                return;
+            running = true;
+            worker = new Thread(this::run, name);
+            worker.setDaemon(true);
+            worker.start();
+        }
+    }
+
+    public void stop() {
+        running = false;
+        if (worker != null)
+            worker.interrupt();
+    }
+
+    // delay 후에 value를 만료시키도록 예약 (같은 key가 있으면 교체), 보관 한도를 넘으면 false
+    public boolean schedule(K key, V value, long delay, TimeUnit unit) {
+        long deadline = System.nanoTime() - startTime + unit.toNanos(Math.max(0, delay));
+        synchronized (lock) {
+            Entry<K, V> old = entries.remove(key);
+            if (old != null)
+                unlink(old);
+            else if (entries.size() >= maxPending)
+                return false;
+
+            long targetTick = Math.max(deadline / tickNanos, tick); // 이미 지난 시각이면 다음 tick에 만료
+            Entry<K, V> entry = new Entry<>(key, value, (targetTick - tick) / wheel.length, (int) (targetTick & mask));
+            link(entry);
+            entries.put(key, entry);
+            return true;
+        }
+    }
+
+    // key로 예약 취소, 취소된 값 반환 (없으면 null)
+    public V cancel(K key) {
+        synchronized (lock) {
+            Entry<K, V> entry = entries.remove(key);
+            if (entry == null)
+                return null;
+            unlink(entry);
+            return entry.value;
+        }
+    }
+
+    public boolean contains(K key) {
+        synchronized (lock) {
+            return entries.containsKey(key);
+        }
+    }
+
+    public int size() {
+        synchronized (lock) {
+            return entries.size();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            long sleepNanos = tickNanos * (tick + 1) - (System.nanoTime() - startTime);
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    if (!running)
+                        return;
+                    continue;
+                }
+            }
+
+            List<V> expired;
+            synchronized (lock) {
+                expired = expireSlot((int) (tick & mask));
+                tick++;
+            }
+            if (!expired.isEmpty()) {
+                try {
+                    expiredHandler.accept(expired);
+                } catch (Exception e) {
+                    log.error("[{}] 만료 작업 처리 실패", name, e);
+                }
+            }
+        }
+    }
+
+    // 칸을 돌면서 이번 바퀴에 만료되는 값을 꺼내고 나머지는 남은 바퀴 수를 줄임
+    private List<V> expireSlot(int slot) {
+        List<V> expired = new ArrayList<>();
+        Entry<K, V> entry = wheel[slot];
+        while (entry != null) {
+            Entry<K, V> next = entry.next;
+            if (entry.remainingRounds <= 0) {
+                unlink(entry);
+                entries.remove(entry.key);
+                expired.add(entry.value);
+            } else {
+                entry.remainingRounds--;
+            }
+            entry = next;
+        }
+        return expired;
+    }
+
+    private void link(Entry<K, V> entry) {
+        Entry<K, V> head = wheel[entry.slot];
+        entry.next = head;
+        if (head != null)
+            head.prev = entry;
+        wheel[entry.slot] = entry;
+    }
+
+    private void unlink(Entry<K, V> entry) {
+        if (entry.prev != null)
+            entry.prev.next = entry.next;
+        else
+            wheel[entry.slot] = entry.next;
+        if (entry.next != null)
+            entry.next.prev = entry.prev;
+        entry.prev = null;
+        entry.next = null;
+    }
+
+    private static final class Entry<K, V> {
+        private final K key;
+        private final V value;
+        private final int slot;
+        private long remainingRounds;
+        private Entry<K, V> prev;
+        private Entry<K, V> next;
+
+        private Entry(K key, V value, long remainingRounds, int slot) {
+            this.key = key;
+            this.value = value;
+            this.remainingRounds = remainingRounds;
+            this.slot = slot;
+        }
+    }
+
+}
@@ -0,0 +1,61 @@
+package bobmukjaku.bobmukjakuDemo.global.utility;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public final class BloomFilter {
+
+    /*
+    * 이미 균등 분포인 해시(SHA-256 등, 16바이트 이상)를 넣는 Bloom filter
+    * - 앞 16바이트를 두 개의 64비트 값(h1, h2)으로 나눠 h1 + i * h2로 k개의 비트 위치 계산
+    * - 없다고 답하면 확실히 없음, 있다고 답하면 오탐 가능 (오탐률 fpp)
+    * - 삭제는 지원하지 않으므로 만료된 원소는 새 필터를 만들어 교체
+    * - 비트 배열은 AtomicLongArray이므로 put, mightContain을 동시에 호출해도 됨
+    * */
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    public BloomFilter(int expectedInsertions, double fpp) {
+        if (expectedInsertions <= 0) throw new IllegalArgumentException("expectedInsertions는 1 이상이어야 합니다.");
+        if (fpp <= 0 || fpp >= 1) throw new IllegalArgumentException("fpp는 0과 1 사이여야 합니다.");
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        this.bits = new AtomicLongArray(Math.toIntExact((optimalBits + 63) / 64));
+        this.bitSize = (long) bits.length() * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    public void put(byte[] hash) {
+        ByteBuffer buffer = wrap(hash);
+        long h1 = buffer.getLong(0);
+        long h2 = buffer.getLong(8);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) break;
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(byte[] hash) {
+        ByteBuffer buffer = wrap(hash);
+        long h1 = buffer.getLong(0);
+        long h2 = buffer.getLong(8);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) return false;
+        }
+        return true;
+    }
+
+    private static ByteBuffer wrap(byte[] hash) {
+        if (hash.length < 16) throw new IllegalArgumentException("16바이트 이상의 해시가 필요합니다.");
+        return ByteBuffer.wrap(hash);
+    }
+
+}
@@ -0,0 +1,162 @@
+package bobmukjaku.bobmukjakuDemo.global.utility;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+@Slf4j
+public class CircuitBreaker {
+
+    /*
+    * 외부 호출용 서킷 브레이커
+    * - CLOSED: 최근 windowSize건 중 실패율이 임계치 이상이면(최소 minimumCalls건) OPEN
+    * - OPEN: openDuration 동안 호출 거부, 지나면 HALF_OPEN
+    * - HALF_OPEN: halfOpenCalls건만 시험 호출, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+    * 사용: tryAcquire()가 true일 때만 호출하고 결과에 따라 onSuccess / onFailure / onIgnored(취소) 중 하나 호출
+    * 지표: {name}.circuit.state (0 closed, 1 open, 2 half-open), {name}.circuit.transition (state 태그), {name}.circuit.rejected
+    * */
+
+    public enum State {
+        CLOSED(0), OPEN(1), HALF_OPEN(2);
+
+        private final int code;
+
+        State(int code) {
+            this.code = code;
+        }
+    }
+
+    private final String name;
+    private final boolean[] window; // 최근 호출 결과 (true: 실패), 원형 배열
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier nanoClock;
+
+    private final Map<State, Counter> transitionCounters = new EnumMap<>(State.class);
+    private final Counter rejectedCounter;
+
+    private State state = State.CLOSED;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+    private long openedAt;
+    private int halfOpenInFlight;
+    private int halfOpenSucceeded;
+
+    public CircuitBreaker(String name, MeterRegistry meterRegistry, int windowSize, int minimumCalls,
+                          double failureRateThreshold, long openDuration, TimeUnit unit, int halfOpenCalls) {
+        this(name, meterRegistry, windowSize, minimumCalls, failureRateThreshold, openDuration, unit, halfOpenCalls, System::nanoTime);
+    }
+
+    public CircuitBreaker(String name, MeterRegistry meterRegistry, int windowSize, int minimumCalls,
+                          double failureRateThreshold, long openDuration, TimeUnit unit, int halfOpenCalls, LongSupplier nanoClock) {
+        if (windowSize <= 0 || minimumCalls <= 0 || minimumCalls > windowSize || halfOpenCalls <= 0 || openDuration <= 0)
+            throw new IllegalArgumentException("서킷 브레이커 설정이 올바르지 않습니다.");
+        if (failureRateThreshold <= 0 || failureRateThreshold > 1)
+            throw new IllegalArgumentException("failureRateThreshold는 0보다 크고 1 이하여야 합니다.");
+        this.name = name;
+        this.window = new boolean[windowSize];
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = unit.toNanos(openDuration);
+        this.halfOpenCalls = halfOpenCalls;
+        this.nanoClock = nanoClock;
+
+        for (State target : State.values()) {
+            transitionCounters.put(target, Counter.builder(name + ".circuit.transition")
+                    .tag("state", target.name().toLowerCase()).register(meterRegistry));
+        }
+        this.rejectedCounter = Counter.builder(name + ".circuit.rejected").description("서킷이 열려 거부된 호출").register(meterRegistry);
+        Gauge.builder(name + ".circuit.state", this, breaker -> breaker.getState().code).register(meterRegistry);
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < openDurationNanos) {
+                rejectedCounter.increment();
+                return false;
+            }
+            transition(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenInFlight + halfOpenSucceeded >= halfOpenCalls) {
+                rejectedCounter.increment();
+                return false;
+            }
+            halfOpenInFlight++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            releaseHalfOpen();
+            if (++halfOpenSucceeded >= halfOpenCalls) transition(State.CLOSED);
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transition(State.OPEN);
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (windowCount >= minimumCalls && (double) windowFailures / windowCount >= failureRateThreshold)
+                transition(State.OPEN);
+        }
+    }
+
+    // 결과 없이 끝난 호출 (구독 취소 등)
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) releaseHalfOpen();
+    }
+
+    public synchronized State getState() {
+        if (state == State.OPEN && nanoClock.getAsLong() - openedAt >= openDurationNanos)
+            return State.HALF_OPEN; // 다음 호출 때 전환
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) windowFailures--;
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) windowFailures++;
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void releaseHalfOpen() {
+        if (halfOpenInFlight > 0) halfOpenInFlight--;
+    }
+
+    private void transition(State target) {
+        log.info("{} 서킷 {} -> {}", name, state, target);
+        state = target;
+        transitionCounters.get(target).increment();
+        switch (target) {
+            case OPEN -> openedAt = nanoClock.getAsLong();
+            case HALF_OPEN -> {
+                halfOpenInFlight = 0;
+                halfOpenSucceeded = 0;
+            }
+            case CLOSED -> {
+                windowIndex = 0;
+                windowCount = 0;
+                windowFailures = 0;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,36 @@
+package bobmukjaku.bobmukjakuDemo.global.utility;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+// 원문(토큰, 메시지) 대신 보관, 비교에 쓰는 SHA-256 해시
+public final class HashUtil {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private HashUtil() {
+    }
+
+    public static byte[] sha256(String token) {
+        return SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String toHex(byte[] hash) {
+        return HEX.formatHex(hash);
+    }
+
+    public static byte[] fromHex(String hex) {
+        return HEX.parseHex(hex);
+    }
+
+}
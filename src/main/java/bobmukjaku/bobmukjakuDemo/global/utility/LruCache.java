@@ -0,0 +1,72 @@
+package bobmukjaku.bobmukjakuDemo.global.utility;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+public final class LruCache<K, V> {
+
+    /*
+    * 노드 메모리 LRU 캐시 (최대 maxSize개 + 항목별 만료 시각)
+    * - 가득 차면 가장 오래 사용하지 않은 항목 제거 (onEviction 호출, maxSize가 0이면 아무것도 보관하지 않음)
+    * - 만료된 항목은 조회할 때 제거, 만료 시각이 NO_EXPIRY이면 용량으로만 제거
+    * - 모든 메서드는 이 객체로 동기화 (여러 호출을 묶어야 하면 synchronized (cache)로 감싸면 됨)
+    * */
+
+    public static final long NO_EXPIRY = Long.MAX_VALUE;
+
+    private final Map<K, Entry<V>> entries;
+
+    private record Entry<V>(V value, long expiresAtMillis) {
+    }
+
+    public LruCache(int maxSize) {
+        this(maxSize, () -> { });
+    }
+
+    public LruCache(int maxSize, Runnable onEviction) {
+        if (maxSize < 0) throw new IllegalArgumentException("maxSize는 0 이상이어야 합니다.");
+        this.entries = new LinkedHashMap<>(Math.max(16, Math.min(maxSize, 256)), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() <= maxSize) return false;
+                onEviction.run();
+                return true;
+            }
+        };
+    }
+
+    // 없거나 만료됐으면 null
+    public synchronized V get(K key) {
+        Entry<V> cached = entries.get(key);
+        if (cached == null) return null;
+        if (System.currentTimeMillis() < cached.expiresAtMillis()) return cached.value();
+        entries.remove(key);
+        return null;
+    }
+
+    public synchronized void put(K key, V value) {
+        put(key, value, NO_EXPIRY);
+    }
+
+    public synchronized void put(K key, V value, long expiresAtMillis) {
+        entries.put(key, new Entry<>(value, expiresAtMillis));
+    }
+
+    public synchronized void remove(K key) {
+        entries.remove(key);
+    }
+
+    public synchronized void removeIf(Predicate<V> predicate) {
+        entries.values().removeIf(entry -> predicate.test(entry.value()));
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+}
@@ -0,0 +1,3 @@
+-- [user-002] 모집방 목록 커서 페이지 조회용 인덱스 (ddl-auto: none이므로 배포 전 직접 실행)
+-- order by created_at desc, id desc + (created_at, id) 커서 조건을 인덱스 순서로 읽음
+create index idx_chatroom_created_at_id on chatroom (created_at, id);
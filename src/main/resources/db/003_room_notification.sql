@@ -0,0 +1,13 @@
+-- [user-003] 모집방 종료 알림 예약 테이블 (ddl-auto: none이므로 배포 전 직접 실행)
+create table if not exists room_notification (
+    id bigint not null auto_increment,
+    room_id bigint not null,
+    due_at datetime(6) not null,
+    sent_at datetime(6),
+    status varchar(10) not null,
+    created_at datetime(6),
+    last_modified_at datetime(6),
+    primary key (id)
+);
+
+create index idx_room_notification_status_due_at on room_notification (status, due_at);
@@ -0,0 +1,3 @@
+-- [user-003] 여러 노드가 같은 알림을 중복 전송하지 않도록 알림을 가져간 노드 기록 (ddl-auto: none이므로 배포 전 직접 실행)
+-- status에 SCHEDULED(노드가 가져가 예약함)가 추가됨 (varchar(10) 그대로 사용)
+alter table room_notification add column owner varchar(36);
@@ -0,0 +1,3 @@
+-- [user-006] 만료된 모집방 청크 삭제용 인덱스 (ddl-auto: none이므로 배포 전 직접 실행)
+-- where date < ? and id > ? order by id limit ? 를 청크마다 전체 스캔 없이 인덱스 범위로 읽음
+create index idx_chatroom_date_id on chatroom (date, id);
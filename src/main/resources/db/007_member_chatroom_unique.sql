@@ -0,0 +1,14 @@
+-- [user-007] 같은 회원의 같은 방 중복 참여 방지 (ddl-auto: none이므로 배포 전 직접 실행)
+-- 1. 기존 중복 참여 행 정리 (가장 먼저 참여한 행만 남김)
+delete mc1 from member_chatroom mc1
+    join member_chatroom mc2
+      on mc1.member_id = mc2.member_id and mc1.chatroom_id = mc2.chatroom_id
+     and mc1.member_chatroom_id > mc2.member_chatroom_id;
+
+-- 2. 중복 행으로 늘어난 현재 인원 보정
+update chatroom c
+   set c.current_num = (select count(*) from member_chatroom mc where mc.chatroom_id = c.id);
+
+-- 3. 유니크 제약 (동시에 같은 회원이 참여하면 두 번째 insert 실패 -> 인원 증가도 롤백)
+alter table member_chatroom
+    add constraint uk_member_chatroom_member_chatroom unique (member_id, chatroom_id);
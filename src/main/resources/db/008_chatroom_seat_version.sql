@@ -0,0 +1,3 @@
+-- [user-008] Redis 좌석 카운터 반영 순서 보장용 컬럼 (ddl-auto: none이므로 배포 전 직접 실행)
+-- flush는 Redis의 version이 seat_version 이상일 때만 current_num을 씀 (느린 노드의 이전 값이 최신 값을 덮어쓰지 않음)
+alter table chatroom add column seat_version bigint not null default 0;
@@ -0,0 +1,8 @@
+-- [user-010] 시간표 필터용 time_slot 컬럼 (ddl-auto: none이므로 배포 전 직접 실행)
+-- 요일 + 시작 시간의 30분 칸 번호 = (요일(월=1) - 1) * 48 + 시작 시간의 30분 칸 (TimeTableMask.slotIndex와 같은 계산)
+alter table chatroom add column time_slot int;
+
+-- 기존 모집방 채우기 (시작 시 ChatRoomDerivedColumnBackfill도 비어있는 행을 채움, weekday: 월=0)
+update chatroom
+   set time_slot = weekday(date) * 48 + hour(start_at) * 2 + floor(minute(start_at) / 30)
+ where time_slot is null and date is not null and start_at is not null;
@@ -0,0 +1,16 @@
+-- [user-011] 요일/시간 필터용 파생 컬럼과 인덱스 (ddl-auto: none이므로 배포 전 직접 실행, 010 이후)
+alter table chatroom
+    add column day_of_week int,
+    add column start_slot int;
+
+-- 기존 모집방 채우기 (시작 시 ChatRoomDerivedColumnBackfill도 비어있는 행을 채움, weekday: 월=0)
+update chatroom
+   set day_of_week = weekday(date) + 1,
+       start_slot = hour(start_at) * 2 + floor(minute(start_at) / 30)
+ where (day_of_week is null and date is not null) or (start_slot is null and start_at is not null);
+
+-- 날짜/음식 종류/참여 가능 여부 필터용 (current_num < total을 인덱스 안에서 확인)
+create index idx_chatroom_date_food_seat on chatroom (date, kind_of_food, current_num, total);
+
+-- 요일/시간 필터용
+create index idx_chatroom_day_slot on chatroom (day_of_week, start_slot);
@@ -0,0 +1,14 @@
+-- [user-014] 시간표, 필터 batch insert용 시퀀스 (ddl-auto: none이므로 배포 전 직접 실행, MariaDB 10.3 이상)
+-- allocationSize 50(pooled)이므로 increment by 50, 기존 id와 겹치지 않도록 max(id) + 50부터 시작
+-- (pooled는 시퀀스 값을 구간의 끝으로 쓰므로 첫 구간이 max(id) + 1 ~ max(id) + 50)
+set @start = (select coalesce(max(id), 0) + 50 from time_table);
+set @ddl = concat('create sequence if not exists time_table_seq start with ', @start, ' increment by 50');
+prepare stmt from @ddl;
+execute stmt;
+deallocate prepare stmt;
+
+set @start = (select coalesce(max(id), 0) + 50 from filter_info);
+set @ddl = concat('create sequence if not exists filter_info_seq start with ', @start, ' increment by 50');
+prepare stmt from @ddl;
+execute stmt;
+deallocate prepare stmt;
@@ -0,0 +1,11 @@
+-- [user-017] 같은 (회원, 상대) 관계 중복 방지 (ddl-auto: none이므로 배포 전 직접 실행)
+-- FriendRepository.upsert(insert ... on duplicate key update)는 이 제약이 있어야 중복 행을 만들지 않음
+-- 1. 기존 중복 관계 정리 (가장 최근에 등록한 행만 남김, 마지막 친구/차단 상태 유지)
+delete f1 from friend f1
+    join friend f2
+      on f1.uid = f2.uid and f1.friend_id = f2.friend_id
+     and f1.id < f2.id;
+
+-- 2. 유니크 제약
+alter table friend
+    add constraint uk_friend_uid_friend_id unique (uid, friend_id);
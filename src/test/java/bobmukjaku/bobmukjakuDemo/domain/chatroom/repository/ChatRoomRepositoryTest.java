@@ -2,18 +2,24 @@ package bobmukjaku.bobmukjakuDemo.domain.chatroom.repository;
 
 import bobmukjaku.bobmukjakuDemo.domain.chatroom.ChatRoom;
 import bobmukjaku.bobmukjakuDemo.domain.chatroom.ChatRoomSpecification;
+import bobmukjaku.bobmukjakuDemo.domain.chatroom.dto.ChatRoomInfoDto;
+import bobmukjaku.bobmukjakuDemo.domain.chatroom.dto.FilteredRoomInfoDto;
+import bobmukjaku.bobmukjakuDemo.domain.friend.Friend;
 import bobmukjaku.bobmukjakuDemo.domain.member.Member;
 import bobmukjaku.bobmukjakuDemo.domain.member.TimeBlock;
 import bobmukjaku.bobmukjakuDemo.domain.member.repository.MemberRepository;
 import bobmukjaku.bobmukjakuDemo.domain.memberchatroom.MemberChatRoom;
 import bobmukjaku.bobmukjakuDemo.domain.memberchatroom.repository.MemberChatRoomRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -36,6 +42,9 @@ public class ChatRoomRepositoryTest {
     @Autowired
     private MemberChatRoomRepository memberChatRoomRepository;
 
+    @Autowired
+    private EntityManager em;
+
     @Test
     public void 요일_필터링_성공() {
         // Given
@@ -65,6 +74,20 @@ public class ChatRoomRepositoryTest {
 
     }
 
+    @Test
+    public void 저장_시_요일_시간_칸_계산() {
+        // given
+        ChatRoom chatRoom = ChatRoom.builder().roomName("모집방1").meetingDate(LocalDate.parse("2023-08-16")).startTime(LocalTime.parse("09:40")).build();
+
+        // when
+        chatRoomRepository.saveAndFlush(chatRoom);
+
+        // then
+        assertThat(chatRoom.getDayOfWeek()).isEqualTo(3); // 수요일
+        assertThat(chatRoom.getStartSlot()).isEqualTo(19); // 09:30 ~ 10:00
+        assertThat(chatRoom.getTimeSlot()).isEqualTo(2 * 48 + 19);
+    }
+
     @Test
     public void 시간_필터링_성공() {
         // Given
@@ -227,4 +250,80 @@ public class ChatRoomRepositoryTest {
         assertEquals(2, filteredChatRooms.size());
         filteredChatRooms.stream().map(ChatRoom::getRoomName).forEach(System.out::println);
     }
+
+    @Test
+    public void 차단_제외_친구_참여_표시_단일쿼리_필터링() throws Exception {
+
+        // given
+        Member me = Member.builder().memberEmail("me@konkuk.ac.kr").memberPassword("password1!@").memberNickName("me").build();
+        Member friend = Member.builder().memberEmail("friend@konkuk.ac.kr").memberPassword("password1!@").memberNickName("friend").build();
+        Member blocked = Member.builder().memberEmail("blocked@konkuk.ac.kr").memberPassword("password1!@").memberNickName("blocked").build();
+        memberRepository.save(me);
+        memberRepository.save(friend);
+        memberRepository.save(blocked);
+        me.addFriend(Friend.builder().member(me).friendUid(friend.getUid()).isBlock(false).build());
+        me.addFriend(Friend.builder().member(me).friendUid(blocked.getUid()).isBlock(true).build());
+
+        ChatRoom friendRoom = ChatRoom.builder().roomName("친구방").total(4).build();
+        ChatRoom blockedRoom = ChatRoom.builder().roomName("차단방").total(4).build();
+        ChatRoom emptyRoom = ChatRoom.builder().roomName("빈방").total(4).build();
+        chatRoomRepository.save(friendRoom);
+        chatRoomRepository.save(blockedRoom);
+        chatRoomRepository.save(emptyRoom);
+        friendRoom.addParticipant(new MemberChatRoom(friend, friendRoom));
+        blockedRoom.addParticipant(new MemberChatRoom(blocked, blockedRoom));
+        chatRoomRepository.flush();
+
+        // when
+        List<FilteredRoomInfoDto> result = chatRoomRepository.findFilteredRoomInfo(ChatRoomSpecification.lessThanTotal(), me.getUid());
+
+        // then
+        assertEquals(2, result.size());
+        assertThat(result.stream().noneMatch(dto -> dto.getRoomName().equals("차단방"))).isTrue();
+        assertThat(result.stream().filter(dto -> dto.getRoomName().equals("친구방")).findFirst().get().getHasFriend()).isEqualTo(1);
+        assertThat(result.stream().filter(dto -> dto.getRoomName().equals("빈방")).findFirst().get().getHasFriend()).isEqualTo(0);
+    }
+
+    @Test
+    public void 커서_기반_모집방_페이지_조회() throws Exception {
+
+        // given: 기존 데이터보다 항상 앞에 오도록 먼 미래의 생성 시간 지정, room1~3은 생성 시간이 같음 (방 id로 순서 결정)
+        LocalDateTime createdAt = LocalDateTime.parse("2999-01-01T12:00:00");
+        ChatRoom room1 = chatRoomRepository.save(ChatRoom.builder().roomName("페이지방1").build());
+        ChatRoom room2 = chatRoomRepository.save(ChatRoom.builder().roomName("페이지방2").build());
+        ChatRoom room3 = chatRoomRepository.save(ChatRoom.builder().roomName("페이지방3").build());
+        ChatRoom older = chatRoomRepository.save(ChatRoom.builder().roomName("페이지방4").build());
+        ChatRoom newer = chatRoomRepository.save(ChatRoom.builder().roomName("페이지방5").build());
+        chatRoomRepository.flush();
+        updateCreatedAt(createdAt, room1, room2, room3);
+        updateCreatedAt(createdAt.minusSeconds(1), older);
+        updateCreatedAt(createdAt.plusSeconds(1), newer);
+        em.clear();
+
+        // when
+        List<ChatRoomInfoDto> firstPage = chatRoomRepository.findFirstRoomInfoPage(PageRequest.of(0, 2));
+        ChatRoomInfoDto firstLast = firstPage.get(firstPage.size() - 1);
+        List<ChatRoomInfoDto> secondPage = chatRoomRepository.findNextRoomInfoPage(firstLast.getCreatedAt(), firstLast.getRoomId(), PageRequest.of(0, 2));
+        ChatRoomInfoDto secondLast = secondPage.get(secondPage.size() - 1);
+        List<ChatRoomInfoDto> thirdPage = chatRoomRepository.findNextRoomInfoPage(secondLast.getCreatedAt(), secondLast.getRoomId(), PageRequest.of(0, 2));
+
+        // then: (생성 시간, 방 id) 내림차순, 커서 다음부터 겹치지 않게 이어짐
+        assertEquals(List.of(newer.getChatRoomId(), room3.getChatRoomId()), roomIds(firstPage));
+        assertEquals(List.of(room2.getChatRoomId(), room1.getChatRoomId()), roomIds(secondPage));
+        assertEquals(older.getChatRoomId(), thirdPage.get(0).getRoomId());
+    }
+
+    private void updateCreatedAt(LocalDateTime createdAt, ChatRoom... rooms) {
+        for (ChatRoom room : rooms) {
+            em.createNativeQuery("update chatroom set created_at = :createdAt where id = :roomId")
+                    .setParameter("createdAt", createdAt)
+                    .setParameter("roomId", room.getChatRoomId())
+                    .executeUpdate();
+        }
+    }
+
+    private static List<Long> roomIds(List<ChatRoomInfoDto> page) {
+        return page.stream().map(ChatRoomInfoDto::getRoomId).toList();
+    }
 }
+
@@ -0,0 +1,118 @@
+package bobmukjaku.bobmukjakuDemo.domain.chatroom.service;
+
+import bobmukjaku.bobmukjakuDemo.domain.chatroom.ChatRoom;
+import bobmukjaku.bobmukjakuDemo.domain.chatroom.repository.ChatRoomRepository;
+import bobmukjaku.bobmukjakuDemo.domain.member.Member;
+import bobmukjaku.bobmukjakuDemo.domain.member.repository.MemberRepository;
+import bobmukjaku.bobmukjakuDemo.domain.memberchatroom.repository.MemberChatRoomRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 동시 참여는 트랜잭션이 각각 커밋되어야 하므로 @Transactional 없이 실행하고 직접 정리
+@SpringBootTest
+public class ChatRoomJoinConcurrencyTest {
+
+    @Autowired
+    ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    MemberChatRoomRepository memberChatRoomRepository;
+
+    @Autowired
+    ChatRoomService chatRoomService;
+
+    private final List<Long> memberIds = new ArrayList<>();
+    private Long roomId;
+
+    @AfterEach
+    public void cleanUp() {
+        memberChatRoomRepository.deleteAll(memberChatRoomRepository.findAll().stream()
+                .filter(memberChatRoom -> memberIds.contains(memberChatRoom.getJoiner().getUid()))
+                .toList());
+        if (roomId != null) chatRoomRepository.deleteById(roomId);
+        memberRepository.deleteAllById(memberIds);
+    }
+
+    @Test
+    public void 동시_참여_시_정원_초과_안됨() throws Exception {
+        // given
+        int total = 4;
+        int joiners = 20;
+        ChatRoom chatRoom = chatRoomRepository.save(ChatRoom.builder().roomName("동시참여방").total(total).build());
+        roomId = chatRoom.getChatRoomId();
+        for (int i = 0; i < joiners; i++) {
+            Member member = memberRepository.save(Member.builder()
+                    .memberEmail("concurrent" + i + "@konkuk.ac.kr")
+                    .memberPassword("password1@")
+                    .memberNickName("concurrent" + i)
+                    .build());
+            memberIds.add(member.getUid());
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(joiners);
+        AtomicInteger succeeded = new AtomicInteger();
+
+        // when
+        for (Long uid : memberIds) {
+            executorService.submit(() -> {
+                try {
+                    ready.await();
+                    if (chatRoomService.addMemberToChatRoom(roomId, uid)) succeeded.incrementAndGet();
+                } catch (Exception e) {
+                    // 정원 초과 외의 실패는 아래 검증에서 드러남
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executorService.shutdown();
+
+        // then
+        assertThat(succeeded.get()).isEqualTo(total);
+        assertThat(chatRoomRepository.findById(roomId).get().getCurrentNum()).isEqualTo(total);
+        assertThat(memberChatRoomRepository.findAll().stream()
+                .filter(memberChatRoom -> memberIds.contains(memberChatRoom.getJoiner().getUid()))
+                .count()).isEqualTo(total);
+    }
+
+    @Test
+    public void 같은_회원_중복_참여_안됨() throws Exception {
+        // given
+        ChatRoom chatRoom = chatRoomRepository.save(ChatRoom.builder().roomName("중복참여방").total(4).build());
+        roomId = chatRoom.getChatRoomId();
+        Member member = memberRepository.save(Member.builder()
+                .memberEmail("duplicate@konkuk.ac.kr")
+                .memberPassword("password1@")
+                .memberNickName("duplicate")
+                .build());
+        memberIds.add(member.getUid());
+
+        // when
+        Boolean first = chatRoomService.addMemberToChatRoom(roomId, member.getUid());
+        Boolean second = chatRoomService.addMemberToChatRoom(roomId, member.getUid());
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(chatRoomRepository.findById(roomId).get().getCurrentNum()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,147 @@
+package bobmukjaku.bobmukjakuDemo.domain.chatroom.service;
+
+import bobmukjaku.bobmukjakuDemo.domain.chatroom.FilterInfo;
+import bobmukjaku.bobmukjakuDemo.domain.chatroom.dto.ChatRoomInfoDto;
+import bobmukjaku.bobmukjakuDemo.domain.chatroom.dto.FilteredRoomInfoDto;
+import bobmukjaku.bobmukjakuDemo.domain.chatroom.dto.OpenRoomSnapshot;
+import bobmukjaku.bobmukjakuDemo.domain.chatroom.repository.ChatRoomRepository;
+import bobmukjaku.bobmukjakuDemo.domain.friend.UidSet;
+import bobmukjaku.bobmukjakuDemo.domain.member.TimeTableMask;
+import bobmukjaku.bobmukjakuDemo.domain.memberchatroom.repository.MemberChatRoomRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class OpenRoomReadModelTest {
+
+    private static final LocalDate MEETING_DATE = LocalDate.now().plusDays(7);
+
+    OpenRoomReadModel openRoomReadModel;
+
+    @BeforeEach
+    public void setUp() {
+        openRoomReadModel = new OpenRoomReadModel(mock(ChatRoomRepository.class), mock(MemberChatRoomRepository.class), true);
+        openRoomReadModel.replaceAll(List.of(
+                room(1L, MEETING_DATE, "12:00", "한식", 4, 1, List.of(10L)),
+                room(2L, MEETING_DATE, "18:00", "중식", 4, 2, List.of(20L, 30L)),
+                room(3L, MEETING_DATE.plusDays(1), "12:00", "한식", 2, 1, List.of(40L)),
+                room(4L, MEETING_DATE, "13:00", "한식", 3, 1, List.of(50L))
+        ));
+    }
+
+    @Test
+    public void 날짜_음식_필터링() {
+        // when
+        List<FilteredRoomInfoDto> result = openRoomReadModel.filter(
+                List.of(new FilterInfo("meetingDate", MEETING_DATE.toString()), new FilterInfo("kindOfFood", "한식")),
+                uid -> TimeTableMask.of(List.of()), UidSet.EMPTY, UidSet.EMPTY);
+
+        // then
+        assertThat(result).extracting(FilteredRoomInfoDto::getRoomId).containsExactly(1L, 4L);
+    }
+
+    @Test
+    public void 차단_사용자_참여_방_제외_친구_참여_방_표시() {
+        // when
+        List<FilteredRoomInfoDto> result = openRoomReadModel.filter(List.of(),
+                uid -> TimeTableMask.of(List.of()), UidSet.of(40L), UidSet.of(30L));
+
+        // then
+        assertThat(result).extracting(FilteredRoomInfoDto::getRoomId).containsExactly(1L, 3L, 4L);
+        assertThat(result).extracting(FilteredRoomInfoDto::getHasFriend).containsExactly(0, 1, 0);
+    }
+
+    @Test
+    public void 최신순_정렬() {
+        // when
+        List<FilteredRoomInfoDto> result = openRoomReadModel.filter(List.of(new FilterInfo("latest", null)),
+                uid -> TimeTableMask.of(List.of()), UidSet.EMPTY, UidSet.EMPTY);
+
+        // then
+        assertThat(result).extracting(FilteredRoomInfoDto::getRoomId).containsExactly(4L, 3L, 2L, 1L);
+    }
+
+    @Test
+    public void 시간표와_겹치는_방_제외() {
+        // given
+        TimeTableMask mask = new TimeTableMask();
+        mask.add(MEETING_DATE.getDayOfWeek().getValue(), LocalTime.parse("12:00"));
+
+        // when
+        List<FilteredRoomInfoDto> result = openRoomReadModel.filter(List.of(new FilterInfo("timeTable", "1")),
+                uid -> mask, UidSet.EMPTY, UidSet.EMPTY);
+
+        // then
+        assertThat(result).extracting(FilteredRoomInfoDto::getRoomId).containsExactly(2L, 3L, 4L);
+    }
+
+    @Test
+    public void 정원이_찬_방은_제외() {
+        // given
+        openRoomReadModel.replaceAll(List.of(room(5L, MEETING_DATE, "12:00", "한식", 2, 2, List.of(10L, 20L))));
+
+        // when
+        List<FilteredRoomInfoDto> result = openRoomReadModel.filter(List.of(),
+                uid -> TimeTableMask.of(List.of()), UidSet.EMPTY, UidSet.EMPTY);
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void 늦게_도착한_이전_읽기는_무시() {
+        // given
+        long olderRead = openRoomReadModel.nextReadNo();
+        long newerRead = openRoomReadModel.nextReadNo();
+
+        // when
+        openRoomReadModel.apply(1L, room(1L, MEETING_DATE, "12:00", "한식", 4, 3, List.of(10L, 60L, 70L)), newerRead);
+        openRoomReadModel.apply(1L, room(1L, MEETING_DATE, "12:00", "한식", 4, 2, List.of(10L, 60L)), olderRead);
+
+        // then
+        assertThat(openRoomReadModel.find(1L)).hasValueSatisfying(room -> assertThat(room.currentNum()).isEqualTo(3));
+    }
+
+    @Test
+    public void 변경된_방만_보조_인덱스에서_옮김() {
+        // when
+        openRoomReadModel.apply(1L, room(1L, MEETING_DATE.plusDays(1), "12:00", "중식", 4, 1, List.of(10L)), openRoomReadModel.nextReadNo());
+        openRoomReadModel.apply(4L, null, openRoomReadModel.nextReadNo());
+
+        // then
+        assertThat(openRoomReadModel.filter(List.of(new FilterInfo("kindOfFood", "한식")),
+                uid -> TimeTableMask.of(List.of()), UidSet.EMPTY, UidSet.EMPTY))
+                .extracting(FilteredRoomInfoDto::getRoomId).containsExactly(3L);
+        assertThat(openRoomReadModel.filter(List.of(new FilterInfo("meetingDate", MEETING_DATE.plusDays(1).toString())),
+                uid -> TimeTableMask.of(List.of()), UidSet.EMPTY, UidSet.EMPTY))
+                .extracting(FilteredRoomInfoDto::getRoomId).containsExactly(1L, 3L);
+    }
+
+    @Test
+    public void 일괄_삭제된_방들을_한_번에_제거() {
+        // when (DB에서 찾을 수 없는 방은 제거)
+        openRoomReadModel.refreshAll(List.of(1L, 2L, 4L));
+
+        // then
+        assertThat(openRoomReadModel.size()).isEqualTo(1);
+        assertThat(openRoomReadModel.filter(List.of(new FilterInfo("kindOfFood", "한식")),
+                uid -> TimeTableMask.of(List.of()), UidSet.EMPTY, UidSet.EMPTY))
+                .extracting(FilteredRoomInfoDto::getRoomId).containsExactly(3L);
+    }
+
+    private OpenRoomSnapshot room(Long roomId, LocalDate meetingDate, String startTime, String kindOfFood,
+                                  int total, int currentNum, List<Long> participantUids) {
+        LocalTime start = LocalTime.parse(startTime);
+        ChatRoomInfoDto info = new ChatRoomInfoDto(roomId, "방" + roomId, meetingDate, start, start.plusHours(1), kindOfFood,
+                total, currentNum, LocalDateTime.now().minusHours(10 - roomId));
+        return OpenRoomSnapshot.of(info, participantUids);
+    }
+
+}
@@ -0,0 +1,93 @@
+package bobmukjaku.bobmukjakuDemo.domain.chatroom.service;
+
+import bobmukjaku.bobmukjakuDemo.domain.chatroom.ChatRoom;
+import bobmukjaku.bobmukjakuDemo.domain.chatroom.repository.ChatRoomRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 설정된 Redis를 사용 (learning.RedisTest와 동일)
+// 공유 DB의 모든 모집방 current_num을 다시 계산하고 Redis 키를 비우지 않도록 시작 보정은 끔
+@SpringBootTest(properties = {"app.seat-counter.mode=redis", "app.seat-counter.reconcile-on-startup=false"})
+public class RedisRoomSeatCounterTest {
+
+    @Autowired
+    RoomSeatCounter roomSeatCounter;
+
+    @Autowired
+    ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    StringRedisTemplate redisTemplate;
+
+    private Long roomId;
+
+    @AfterEach
+    public void cleanUp() {
+        if (roomId != null) {
+            roomSeatCounter.evict(roomId);
+            chatRoomRepository.deleteById(roomId);
+        }
+    }
+
+    @Test
+    public void 정원까지만_자리_확보() {
+        // given
+        ChatRoom chatRoom = chatRoomRepository.save(ChatRoom.builder().roomName("좌석방").total(2).build());
+        roomId = chatRoom.getChatRoomId();
+
+        // when, then
+        assertThat(roomSeatCounter).isInstanceOf(RedisRoomSeatCounter.class);
+        assertThat(roomSeatCounter.tryAcquire(roomId)).isTrue();
+        assertThat(roomSeatCounter.tryAcquire(roomId)).isTrue();
+        assertThat(roomSeatCounter.tryAcquire(roomId)).isFalse(); // 정원 초과
+        assertThat(roomSeatCounter.release(roomId)).isFalse();
+        assertThat(roomSeatCounter.release(roomId)).isTrue(); // 마지막 자리 반납
+    }
+
+    @Test
+    public void 변경된_좌석_수_DB_반영() {
+        // given
+        ChatRoom chatRoom = chatRoomRepository.save(ChatRoom.builder().roomName("좌석방").total(4).build());
+        roomId = chatRoom.getChatRoomId();
+        roomSeatCounter.tryAcquire(roomId);
+        roomSeatCounter.tryAcquire(roomId);
+
+        // when
+        ((RedisRoomSeatCounter) roomSeatCounter).flush();
+
+        // then
+        assertThat(chatRoomRepository.findCurrentNum(roomId)).contains(2);
+    }
+
+    @Test
+    public void 늦게_반영하는_이전_좌석_수는_무시() {
+        // given
+        ChatRoom chatRoom = chatRoomRepository.save(ChatRoom.builder().roomName("좌석방").total(4).build());
+        roomId = chatRoom.getChatRoomId();
+        roomSeatCounter.tryAcquire(roomId);
+        String staleVersion = (String) redisTemplate.opsForHash().get(RedisRoomSeatCounter.SEAT_KEY_PREFIX + roomId, "version");
+        roomSeatCounter.tryAcquire(roomId);
+        ((RedisRoomSeatCounter) roomSeatCounter).flush();
+
+        // when (다른 노드가 먼저 읽어둔 1명, 이전 version을 늦게 반영)
+        redisTemplate.opsForHash().putAll(RedisRoomSeatCounter.SEAT_KEY_PREFIX + roomId, Map.of("current", "1", "version", staleVersion));
+        redisTemplate.opsForSet().add(RedisRoomSeatCounter.DIRTY_KEY, String.valueOf(roomId));
+        ((RedisRoomSeatCounter) roomSeatCounter).flush();
+
+        // then
+        assertThat(chatRoomRepository.findCurrentNum(roomId)).contains(2);
+    }
+
+    @Test
+    public void 없는_방은_자리_확보_실패() {
+        assertThat(roomSeatCounter.tryAcquire(-1L)).isFalse();
+    }
+
+}
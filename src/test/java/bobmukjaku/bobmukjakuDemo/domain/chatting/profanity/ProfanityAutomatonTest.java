@@ -0,0 +1,55 @@
+package bobmukjaku.bobmukjakuDemo.domain.chatting.profanity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProfanityAutomatonTest {
+
+    private final ProfanityAutomaton automaton = ProfanityAutomaton.of(
+            List.of("시벌", "ㅅㅂ", "개새끼", "shit"),
+            List.of("시발", "씹", "싸가지", "새끼", "18"));
+
+    @Test
+    public void 일반_메시지는_통과() {
+        assertThat(automaton.scan("오늘 점심 같이 드실 분")).isEqualTo(ProfanityVerdict.CLEAN);
+        assertThat(automaton.scan("")).isEqualTo(ProfanityVerdict.CLEAN);
+        assertThat(automaton.scan(null)).isEqualTo(ProfanityVerdict.CLEAN);
+    }
+
+    @Test
+    public void 된소리_자모_숫자_변형도_감지() {
+        assertThat(automaton.scan("씨벌")).isEqualTo(ProfanityVerdict.PROFANE);
+        assertThat(automaton.scan("아 ㅆㅂ 진짜")).isEqualTo(ProfanityVerdict.PROFANE);
+        assertThat(automaton.scan("ㅅ1벌")).isEqualTo(ProfanityVerdict.PROFANE);
+        assertThat(automaton.scan("개쌔끼야")).isEqualTo(ProfanityVerdict.PROFANE);
+        assertThat(automaton.scan("SH1T")).isEqualTo(ProfanityVerdict.PROFANE);
+    }
+
+    @Test
+    public void 음절_단어_중간에서_시작하면_무시() {
+        assertThat(automaton.scan("갓바위")).isEqualTo(ProfanityVerdict.CLEAN); // ㄱㅏㅅㅂㅏ 속 ㅅㅂ
+        assertThat(automaton.scan("pushit")).isEqualTo(ProfanityVerdict.CLEAN);
+    }
+
+    @Test
+    public void 띄어쓰기를_건너뛰거나_애매한_단어는_AMBIGUOUS() {
+        assertThat(automaton.scan("시 발")).isEqualTo(ProfanityVerdict.AMBIGUOUS);
+        assertThat(automaton.scan("회의시 발표")).isEqualTo(ProfanityVerdict.AMBIGUOUS);
+        assertThat(automaton.scan("고양이 새끼")).isEqualTo(ProfanityVerdict.AMBIGUOUS);
+        assertThat(automaton.scan("18시에 만나요")).isEqualTo(ProfanityVerdict.AMBIGUOUS);
+    }
+
+    @Test
+    public void 접으면_일상_단어가_되는_욕설은_PROFANE으로_판정하지_않음() {
+        assertThat(automaton.scan("십분 뒤에 봐요")).isNotEqualTo(ProfanityVerdict.PROFANE);
+        assertThat(automaton.scan("오십분에 만나요")).isNotEqualTo(ProfanityVerdict.PROFANE);
+        assertThat(automaton.scan("십만원")).isNotEqualTo(ProfanityVerdict.PROFANE);
+        assertThat(automaton.scan("사가지고 갈게요")).isNotEqualTo(ProfanityVerdict.PROFANE);
+        assertThat(automaton.scan("시발점")).isNotEqualTo(ProfanityVerdict.PROFANE);
+        assertThat(automaton.scan("씨발")).isEqualTo(ProfanityVerdict.AMBIGUOUS); // 원격 모델로 확인
+    }
+
+}
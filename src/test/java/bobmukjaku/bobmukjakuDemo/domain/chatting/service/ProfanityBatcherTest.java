@@ -0,0 +1,107 @@
+package bobmukjaku.bobmukjakuDemo.domain.chatting.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ProfanityBatcherTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private HttpServer server;
+    private ProfanityClient profanityClient;
+
+    // 묶음 엔드포인트 흉내 ("욕"이 들어간 메시지만 욕설, "실패"가 있으면 500)
+    @BeforeEach
+    public void startStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/check_profanity_batch", exchange -> {
+            JsonNode messages = objectMapper.readTree(exchange.getRequestBody()).get("messages");
+            batchSizes.add(messages.size());
+            StringBuilder body = new StringBuilder("{\"results\":[");
+            boolean fail = false;
+            for (int i = 0; i < messages.size(); i++) {
+                String message = messages.get(i).asText();
+                fail |= message.contains("실패");
+                if (i > 0) body.append(',');
+                body.append("{\"profanity\":").append(message.contains("욕")).append('}');
+            }
+            byte[] response = body.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(fail ? 500 : 200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        });
+        server.start();
+        WebClient webClient = WebClient.create("http://localhost:" + server.getAddress().getPort());
+        profanityClient = new ProfanityClient(webClient, "/check_profanity_batch");
+    }
+
+    @AfterEach
+    public void stopStubServer() {
+        server.stop(0);
+    }
+
+    @Test
+    public void 최대_개수만큼_묶어서_보내고_메시지별로_결과_반환() {
+        // given
+        ProfanityBatcher batcher = new ProfanityBatcher(profanityClient, new SimpleMeterRegistry(), true, 4, 200);
+        List<String> messages = IntStream.range(0, 10).mapToObj(i -> i % 3 == 0 ? "욕" + i : "안녕" + i).toList();
+
+        // when
+        List<Boolean> results = Flux.fromIterable(messages)
+                .flatMapSequential(batcher::check)
+                .collectList()
+                .block();
+
+        // then
+        assertThat(results).containsExactly(true, false, false, true, false, false, true, false, false, true);
+        assertThat(batchSizes).containsExactlyInAnyOrder(4, 4, 2);
+        batcher.stop();
+    }
+
+    @Test
+    public void 최대_지연이_지나면_모인_만큼_전송() {
+        // given
+        ProfanityBatcher batcher = new ProfanityBatcher(profanityClient, new SimpleMeterRegistry(), true, 64, 10);
+
+        // when
+        Boolean result = batcher.check("안녕하세요").block();
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(batchSizes).containsExactly(1);
+        batcher.stop();
+    }
+
+    @Test
+    public void 묶음_요청이_실패하면_묶인_메시지_모두_실패() {
+        // given
+        ProfanityBatcher batcher = new ProfanityBatcher(profanityClient, new SimpleMeterRegistry(), true, 2, 200);
+
+        // when, then
+        assertThatThrownBy(() -> Flux.just("실패", "안녕").flatMap(batcher::check).collectList().block())
+                .isInstanceOf(RuntimeException.class);
+        assertThat(batchSizes).containsExactly(2);
+        batcher.stop();
+    }
+
+}
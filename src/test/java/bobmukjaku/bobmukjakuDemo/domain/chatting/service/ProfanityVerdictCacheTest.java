@@ -0,0 +1,67 @@
+package bobmukjaku.bobmukjakuDemo.domain.chatting.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProfanityVerdictCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger remoteCalls = new AtomicInteger();
+
+    private Mono<Boolean> remote(String message) {
+        remoteCalls.incrementAndGet();
+        return Mono.just(message.contains("욕"));
+    }
+
+    @Test
+    public void 정규화한_메시지가_같으면_원격_호출_없이_반환() {
+        // given
+        ProfanityVerdictCache cache = new ProfanityVerdictCache(meterRegistry, 600, 1_000_000);
+
+        // when
+        Boolean first = cache.get("어디세요?", this::remote).block();
+        Boolean second = cache.get("  어디세요?  ", this::remote).block();
+
+        // then
+        assertThat(first).isFalse();
+        assertThat(second).isFalse();
+        assertThat(remoteCalls.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("profanity.cache.hit").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("profanity.cache.miss").count()).isEqualTo(1);
+    }
+
+    @Test
+    public void 용량을_넘으면_오래된_판정부터_제거() {
+        // given
+        ProfanityVerdictCache cache = new ProfanityVerdictCache(meterRegistry, 600, ProfanityVerdictCache.ENTRY_BYTES * 2L);
+
+        // when
+        cache.get("ㅇㅋ", this::remote).block();
+        cache.get("ㅎㅇ", this::remote).block();
+        cache.get("욕설", this::remote).block();
+        cache.get("ㅇㅋ", this::remote).block();
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(remoteCalls.get()).isEqualTo(4);
+        assertThat(meterRegistry.counter("profanity.cache.eviction").count()).isEqualTo(2);
+    }
+
+    @Test
+    public void 원격_호출_실패는_캐시하지_않음() {
+        // given
+        ProfanityVerdictCache cache = new ProfanityVerdictCache(meterRegistry, 600, 1_000_000);
+
+        // when
+        cache.get("ㅇㅋ", message -> Mono.<Boolean>error(new RuntimeException("timeout"))).onErrorReturn(false).block();
+
+        // then
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+}
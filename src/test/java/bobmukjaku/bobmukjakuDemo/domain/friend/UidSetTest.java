@@ -0,0 +1,32 @@
+package bobmukjaku.bobmukjakuDemo.domain.friend;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UidSetTest {
+
+    @Test
+    public void 정렬_중복제거_후_포함_여부() {
+        // when
+        UidSet uids = UidSet.of(List.of(30L, 10L, 20L, 10L));
+
+        // then
+        assertThat(uids.toArray()).containsExactly(10L, 20L, 30L);
+        assertThat(uids.contains(20L)).isTrue();
+        assertThat(uids.contains(25L)).isFalse();
+    }
+
+    @Test
+    public void 정렬된_참여자_배열과_교집합() {
+        UidSet friends = UidSet.of(3L, 8L, 15L);
+
+        assertThat(friends.intersects(new long[]{1L, 2L, 15L})).isTrue();
+        assertThat(friends.intersects(new long[]{4L, 9L, 16L})).isFalse();
+        assertThat(friends.intersects(new long[0])).isFalse();
+        assertThat(UidSet.EMPTY.intersects(new long[]{3L})).isFalse();
+    }
+
+}
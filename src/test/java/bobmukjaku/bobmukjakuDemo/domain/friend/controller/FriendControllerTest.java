@@ -6,6 +6,7 @@ import bobmukjaku.bobmukjakuDemo.domain.chatroom.service.ChatRoomService;
 import bobmukjaku.bobmukjakuDemo.domain.friend.Friend;
 import bobmukjaku.bobmukjakuDemo.domain.friend.dto.FriendInfoDto;
 import bobmukjaku.bobmukjakuDemo.domain.friend.dto.FriendUpdateDto;
+import bobmukjaku.bobmukjakuDemo.domain.friend.repository.FriendRepository;
 import bobmukjaku.bobmukjakuDemo.domain.friend.service.FriendService;
 import bobmukjaku.bobmukjakuDemo.domain.member.Member;
 import bobmukjaku.bobmukjakuDemo.domain.member.dto.MemberSignUpDto;
@@ -53,6 +54,9 @@ public class FriendControllerTest {
     @Autowired
     MemberRepository memberRepository;
 
+    @Autowired
+    FriendRepository friendRepository;
+
     ObjectMapper objectMapper = new ObjectMapper();
 
     private String username = "username@konkuk.ac.kr";
@@ -100,6 +104,7 @@ public class FriendControllerTest {
      * 차단_등록_성공
      * 차단_해제_성공
      * 차단_목록_조회_성공
+     * 친구_중복_등록_후_차단_전환
      * */
 
     @Test
@@ -325,4 +330,38 @@ public class FriendControllerTest {
                 .andExpect(status().isOk());
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void 친구_중복_등록_후_차단_전환() throws Exception {
+
+        // given
+        String signUpData = objectMapper.writeValueAsString(new MemberSignUpDto("username2@konkuk.ac.kr", "password2!@#", "ssggii2"));
+        mockMvc.perform(
+                        MockMvcRequestBuilders.post("/signUp")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(signUpData))
+                .andExpect(status().isOk());
+
+        signUp();
+        String accessToken = login();
+
+        Member member = memberRepository.findByMemberEmail(username).get();
+        Member friend = memberRepository.findByMemberEmail("username2@konkuk.ac.kr").get();
+        String content = new ObjectMapper().writeValueAsString(new FriendUpdateDto(friend.getUid()));
+
+        // when (클라이언트 재시도로 같은 요청 두 번 + 차단 등록)
+        for (String url : new String[]{"/friend/registering", "/friend/registering", "/block/registering"}) {
+            mockMvc.perform(post(url)
+                            .header(accessHeader, BEARER + accessToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(content))
+                    .andExpect(status().isOk());
+        }
+
+        // then
+        assertThat(friendRepository.findRelations(member.getUid())).hasSize(1);
+        assertThat(friendRepository.findFriendUids(member.getUid(), true)).containsExactly(friend.getUid());
+        assertThat(friendRepository.findFriendUids(member.getUid(), false)).isEmpty();
+
+    }
+}
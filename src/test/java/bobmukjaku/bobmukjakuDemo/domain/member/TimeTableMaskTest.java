@@ -0,0 +1,48 @@
+package bobmukjaku.bobmukjakuDemo.domain.member;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TimeTableMaskTest {
+
+    @Test
+    public void 요일과_시간으로_칸_번호_계산() {
+        assertThat(TimeTableMask.slotIndex(1, LocalTime.parse("00:00"))).isEqualTo(0);
+        assertThat(TimeTableMask.slotIndex(1, LocalTime.parse("00:29"))).isEqualTo(0);
+        assertThat(TimeTableMask.slotIndex(1, LocalTime.parse("00:30"))).isEqualTo(1);
+        assertThat(TimeTableMask.slotIndex(3, LocalTime.parse("09:10"))).isEqualTo(2 * 48 + 18);
+        assertThat(TimeTableMask.slotIndex(7, LocalTime.parse("23:59"))).isEqualTo(TimeTableMask.SLOT_COUNT - 1);
+        assertThat(TimeTableMask.slotIndex(null, LocalTime.parse("09:00"))).isNull();
+    }
+
+    @Test
+    public void 시간표와_겹치는_모임만_충돌() {
+        // given
+        TimeBlock wednesdayMorning = TimeBlock.builder().dayOfWeek(3).time(LocalTime.parse("09:00")).build();
+        TimeBlock sundayNight = TimeBlock.builder().dayOfWeek(7).time(LocalTime.parse("23:30")).build();
+
+        // when
+        TimeTableMask mask = TimeTableMask.of(List.of(wednesdayMorning, sundayNight));
+
+        // then
+        assertThat(mask.conflicts(LocalDate.parse("2023-08-16"), LocalTime.parse("09:20"))).isTrue(); // 수요일 09:20
+        assertThat(mask.conflicts(LocalDate.parse("2023-08-16"), LocalTime.parse("09:30"))).isFalse(); // 다음 칸
+        assertThat(mask.conflicts(LocalDate.parse("2023-08-17"), LocalTime.parse("09:20"))).isFalse(); // 목요일
+        assertThat(mask.conflicts(LocalDate.parse("2023-08-20"), LocalTime.parse("23:45"))).isTrue(); // 일요일 마지막 칸
+        assertThat(mask.slots()).containsExactly(2 * 48 + 18, 6 * 48 + 47);
+    }
+
+    @Test
+    public void 빈_시간표() {
+        TimeTableMask mask = TimeTableMask.of(List.of());
+
+        assertThat(mask.isEmpty()).isTrue();
+        assertThat(mask.slots()).isEmpty();
+    }
+
+}
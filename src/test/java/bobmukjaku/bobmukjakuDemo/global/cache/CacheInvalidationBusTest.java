@@ -0,0 +1,115 @@
+package bobmukjaku.bobmukjakuDemo.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+// Redis 없이 두 노드의 버스를 만들어 발행한 메시지를 서로 전달
+public class CacheInvalidationBusTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void 다른_노드의_캐시만_무효화() {
+        // given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        RecordingInvalidator nodeA = new RecordingInvalidator(CachedEntity.CHAT_ROOM);
+        RecordingInvalidator nodeB = new RecordingInvalidator(CachedEntity.CHAT_ROOM);
+        CacheInvalidationBus busA = new CacheInvalidationBus(redisTemplate, objectMapper, List.of(nodeA));
+        CacheInvalidationBus busB = new CacheInvalidationBus(redisTemplate, objectMapper, List.of(nodeB));
+
+        // when
+        busA.publish(new TestEvent(CachedEntity.CHAT_ROOM, 7L));
+        DefaultMessage message = publishedMessage(redisTemplate);
+        busA.onMessage(message, null);
+        busB.onMessage(message, null);
+
+        // then
+        assertThat(nodeA.invalidated).isEmpty(); // 발행한 노드는 무시
+        assertThat(nodeB.invalidated).containsExactly(7L);
+    }
+
+    @Test
+    public void 같은_종류의_캐시만_무효화() {
+        // given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        RecordingInvalidator friendCache = new RecordingInvalidator(CachedEntity.FRIEND);
+        RecordingInvalidator memberCache = new RecordingInvalidator(CachedEntity.MEMBER);
+        CacheInvalidationBus publisher = new CacheInvalidationBus(redisTemplate, objectMapper, List.of());
+        CacheInvalidationBus receiver = new CacheInvalidationBus(redisTemplate, objectMapper, List.of(friendCache, memberCache));
+
+        // when
+        publisher.publish(new TestEvent(CachedEntity.FRIEND, null));
+        receiver.onMessage(publishedMessage(redisTemplate), null);
+
+        // then
+        assertThat(friendCache.invalidated).containsExactly((Long) null); // 전체 무효화
+        assertThat(memberCache.invalidated).isEmpty();
+    }
+
+    @Test
+    public void 여러_건을_메시지_하나로_무효화() {
+        // given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        RecordingInvalidator roomCache = new RecordingInvalidator(CachedEntity.CHAT_ROOM);
+        CacheInvalidationBus publisher = new CacheInvalidationBus(redisTemplate, objectMapper, List.of());
+        CacheInvalidationBus receiver = new CacheInvalidationBus(redisTemplate, objectMapper, List.of(roomCache));
+
+        // when
+        publisher.publish(new BatchTestEvent(CachedEntity.CHAT_ROOM, List.of(1L, 2L, 3L)));
+        receiver.onMessage(publishedMessage(redisTemplate), null);
+
+        // then
+        assertThat(roomCache.invalidated).containsExactly(1L, 2L, 3L); // 전체 무효화(null) 없이 목록만
+    }
+
+    private DefaultMessage publishedMessage(StringRedisTemplate redisTemplate) {
+        ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(CacheInvalidationBus.CHANNEL), body.capture());
+        return new DefaultMessage(CacheInvalidationBus.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getValue().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private record TestEvent(CachedEntity entity, Long id) implements EntityChangedEvent {
+    }
+
+    private record BatchTestEvent(CachedEntity entity, List<Long> ids) implements EntityChangedEvent {
+
+        @Override
+        public Long id() {
+            return null;
+        }
+    }
+
+    private static class RecordingInvalidator implements LocalCacheInvalidator {
+
+        private final CachedEntity entity;
+        private final List<Long> invalidated = new ArrayList<>();
+
+        RecordingInvalidator(CachedEntity entity) {
+            this.entity = entity;
+        }
+
+        @Override
+        public CachedEntity entity() {
+            return entity;
+        }
+
+        @Override
+        public void invalidate(Long id) {
+            invalidated.add(id);
+        }
+    }
+
+}
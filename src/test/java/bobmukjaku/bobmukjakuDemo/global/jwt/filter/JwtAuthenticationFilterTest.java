@@ -4,6 +4,7 @@ import bobmukjaku.bobmukjakuDemo.domain.member.Member;
 import bobmukjaku.bobmukjakuDemo.domain.member.Role;
 import bobmukjaku.bobmukjakuDemo.domain.member.repository.MemberRepository;
 import bobmukjaku.bobmukjakuDemo.global.jwt.service.JwtService;
+import bobmukjaku.bobmukjakuDemo.global.jwt.service.TokenBlacklist;
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -22,6 +23,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -48,6 +50,9 @@ public class JwtAuthenticationFilterTest {
     @Autowired
     EntityManager em;
 
+    @Autowired
+    TokenBlacklist tokenBlacklist;
+
     PasswordEncoder delegatingPasswordEncoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
 
     @Value("${jwt.secret}")
@@ -142,6 +147,24 @@ public class JwtAuthenticationFilterTest {
     }
 
 
+    /**
+     * AccessToken : 유효하지만 로그아웃됨,
+     * RefreshToken : 존재하지 않음
+     */
+    @Test
+    public void 로그아웃된_AccessToken만_보내면_401() throws Exception {
+        //given
+        Map accessAndRefreshToken = getAccessAndRefreshToken();
+        String accessToken = (String) accessAndRefreshToken.get(accessHeader);
+        tokenBlacklist.add(accessToken, Duration.ofMinutes(1));
+
+        //when, then
+        mockMvc.perform(get(LOGIN_URL + "123") //login이 아닌 다른 임의의 주소
+                        .header(accessHeader, BEARER + accessToken))
+                .andExpect(status().isUnauthorized()); //인증하지 않고 필터 체인도 진행하지 않음
+    }
+
+
     /**
      * AccessToken : 유효하지 않음,
      * RefreshToken : 존재하지 않음
@@ -0,0 +1,67 @@
+package bobmukjaku.bobmukjakuDemo.global.jwt.service;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JwtClaimsCacheTest {
+
+    private final Algorithm algorithm = Algorithm.HMAC512("test-secret");
+    private final JwtClaimsCache claimsCache = new JwtClaimsCache(JWT.require(algorithm).build(), 2);
+
+    private String token(String username, long validityMillis) {
+        return JWT.create()
+                .withSubject("AccessToken")
+                .withExpiresAt(new Date(System.currentTimeMillis() + validityMillis))
+                .withClaim("username", username)
+                .sign(algorithm);
+    }
+
+    @Test
+    public void 같은_토큰은_캐시된_claim_반환() {
+        // given
+        String accessToken = token("username", 60_000);
+
+        // when
+        Optional<DecodedJWT> first = claimsCache.verify(accessToken);
+        Optional<DecodedJWT> second = claimsCache.verify(accessToken);
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(first.get().getClaim("username").asString()).isEqualTo("username");
+        assertThat(second.get()).isSameAs(first.get());
+    }
+
+    @Test
+    public void 서명이_다르거나_만료된_토큰은_거부() {
+        // given
+        String forged = JWT.create().withClaim("username", "username")
+                .withExpiresAt(new Date(System.currentTimeMillis() + 60_000))
+                .sign(Algorithm.HMAC512("other-secret"));
+        String expired = token("username", -1_000);
+
+        // when, then
+        assertThat(claimsCache.verify(forged)).isEmpty();
+        assertThat(claimsCache.verify(expired)).isEmpty();
+        assertThat(claimsCache.verify(null)).isEmpty();
+        assertThat(claimsCache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void 최대_개수를_넘으면_오래된_토큰부터_제거() {
+        // when
+        claimsCache.verify(token("user1", 60_000));
+        claimsCache.verify(token("user2", 60_000));
+        claimsCache.verify(token("user3", 60_000));
+
+        // then
+        assertThat(claimsCache.size()).isEqualTo(2);
+    }
+
+}
@@ -0,0 +1,65 @@
+package bobmukjaku.bobmukjakuDemo.global.jwt.service;
+
+import bobmukjaku.bobmukjakuDemo.domain.member.Member;
+import bobmukjaku.bobmukjakuDemo.domain.member.Role;
+import bobmukjaku.bobmukjakuDemo.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+public class MemberPrincipalCacheTest {
+
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    private final MemberPrincipalCache principalCache = new MemberPrincipalCache(memberRepository, 30, 100);
+
+    private Member member(Long uid, String email) {
+        return Member.builder().uid(uid).memberEmail(email).memberPassword("password")
+                .memberNickName("닉네임").role(Role.USER).build();
+    }
+
+    @Test
+    public void 캐시된_회원은_DB_조회_없이_반환() {
+        // given
+        when(memberRepository.findByMemberEmail("user@test.com")).thenReturn(Optional.of(member(1L, "user@test.com")));
+
+        // when
+        Optional<UserDetails> first = principalCache.load("user@test.com");
+        Optional<UserDetails> second = principalCache.load("user@test.com");
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(first.get().getAuthorities()).extracting(Object::toString).containsExactly("ROLE_USER");
+        assertThat(second.get()).isSameAs(first.get());
+        verify(memberRepository, times(1)).findByMemberEmail("user@test.com");
+    }
+
+    @Test
+    public void 회원_변경시_캐시_무효화() {
+        // given
+        when(memberRepository.findByMemberEmail("user@test.com")).thenReturn(Optional.of(member(1L, "user@test.com")));
+        principalCache.load("user@test.com");
+
+        // when
+        principalCache.invalidate(1L);
+        principalCache.load("user@test.com");
+
+        // then
+        verify(memberRepository, times(2)).findByMemberEmail("user@test.com");
+    }
+
+    @Test
+    public void 없는_회원은_캐시하지_않음() {
+        // given
+        when(memberRepository.findByMemberEmail("none@test.com")).thenReturn(Optional.empty());
+
+        // when, then
+        assertThat(principalCache.load("none@test.com")).isEmpty();
+        assertThat(principalCache.load("none@test.com")).isEmpty();
+        verify(memberRepository, times(2)).findByMemberEmail("none@test.com");
+    }
+
+}
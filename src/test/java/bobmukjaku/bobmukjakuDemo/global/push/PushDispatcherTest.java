@@ -0,0 +1,90 @@
+package bobmukjaku.bobmukjakuDemo.global.push;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PushDispatcherTest {
+
+    // 전송 요청을 기록만 하는 가짜 전송 수단
+    static class FakePushTransport implements PushTransport {
+        final List<List<PushMessage>> batches = new CopyOnWriteArrayList<>();
+        final AtomicInteger transientFailures = new AtomicInteger();
+
+        @Override
+        public List<PushResult> sendBatch(List<PushMessage> messages) {
+            batches.add(new ArrayList<>(messages));
+            if (transientFailures.getAndDecrement() > 0)
+                return Collections.nCopies(messages.size(), PushResult.RETRYABLE);
+            return Collections.nCopies(messages.size(), PushResult.SENT);
+        }
+    }
+
+    private final FakePushTransport transport = new FakePushTransport();
+    private PushDispatcher pushDispatcher;
+
+    @AfterEach
+    public void stop() {
+        pushDispatcher.stop();
+    }
+
+    @Test
+    public void 같은_초에_들어온_메시지는_묶어서_전송() throws Exception {
+        // given
+        pushDispatcher = new PushDispatcher(transport, new SimpleMeterRegistry());
+
+        // when
+        List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            results.add(pushDispatcher.dispatch(new PushMessage(String.valueOf(i), Map.of("roomId", String.valueOf(i)))));
+        }
+        pushDispatcher.start();
+        CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(results).allMatch(CompletableFuture::join);
+        assertThat(transport.batches.get(0)).hasSize(PushTransport.MAX_BATCH_SIZE);
+        assertThat(transport.batches.stream().mapToInt(List::size).sum()).isEqualTo(600);
+    }
+
+    @Test
+    public void 일시적인_오류는_재시도() throws Exception {
+        // given
+        pushDispatcher = new PushDispatcher(transport, new SimpleMeterRegistry());
+        transport.transientFailures.set(2);
+        pushDispatcher.start();
+
+        // when
+        Boolean sent = pushDispatcher.dispatch(new PushMessage("1", Map.of("roomId", "1"))).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(sent).isTrue();
+        assertThat(transport.batches).hasSize(3);
+    }
+
+    @Test
+    public void 큐가_가득_차면_거부() {
+        // given
+        pushDispatcher = new PushDispatcher(transport, new SimpleMeterRegistry(), 1);
+
+        // when
+        pushDispatcher.dispatch(new PushMessage("1", Map.of()));
+        CompletableFuture<Boolean> rejected = pushDispatcher.dispatch(new PushMessage("2", Map.of()));
+
+        // then
+        assertThatThrownBy(rejected::join).hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+}
@@ -0,0 +1,88 @@
+package bobmukjaku.bobmukjakuDemo.global.scheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HashedTimingWheelTest {
+
+    private final List<List<String>> expiredBatches = new CopyOnWriteArrayList<>();
+    private final CountDownLatch latch = new CountDownLatch(1);
+    private final HashedTimingWheel<Long, String> timingWheel = new HashedTimingWheel<>("test-wheel", 50, TimeUnit.MILLISECONDS, 8, 3, batch -> {
+        expiredBatches.add(batch);
+        latch.countDown();
+    });
+
+    @AfterEach
+    public void stop() {
+        timingWheel.stop();
+    }
+
+    @Test
+    public void 같은_tick에_만료된_작업은_묶어서_전달() throws Exception {
+        // given
+        timingWheel.start();
+
+        // when
+        timingWheel.schedule(1L, "room1", 100, TimeUnit.MILLISECONDS);
+        timingWheel.schedule(2L, "room2", 100, TimeUnit.MILLISECONDS);
+
+        // then
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(expiredBatches.get(0)).containsExactlyInAnyOrder("room1", "room2");
+        assertThat(timingWheel.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void key로_예약_취소() throws Exception {
+        // given
+        timingWheel.start();
+        timingWheel.schedule(1L, "room1", 100, TimeUnit.MILLISECONDS);
+
+        // when
+        String canceled = timingWheel.cancel(1L);
+
+        // then
+        assertThat(canceled).isEqualTo("room1");
+        assertThat(latch.await(300, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(expiredBatches).isEmpty();
+    }
+
+    @Test
+    public void 휠_크기보다_긴_지연도_정확한_바퀴에_만료() throws Exception {
+        // given
+        timingWheel.start();
+        long start = System.nanoTime();
+
+        // when
+        timingWheel.schedule(1L, "room1", 600, TimeUnit.MILLISECONDS); // 8칸 * 50ms = 400ms 한 바퀴보다 김
+
+        // then
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(600);
+    }
+
+    @Test
+    public void 최대_보관_수_초과시_예약_거부_같은_key는_교체() {
+        // given
+        timingWheel.schedule(1L, "room1", 1, TimeUnit.MINUTES);
+        timingWheel.schedule(2L, "room2", 1, TimeUnit.MINUTES);
+        timingWheel.schedule(3L, "room3", 1, TimeUnit.MINUTES);
+
+        // when
+        boolean overflow = timingWheel.schedule(4L, "room4", 1, TimeUnit.MINUTES);
+        boolean replaced = timingWheel.schedule(3L, "room3-new", 1, TimeUnit.MINUTES);
+
+        // then
+        assertThat(overflow).isFalse();
+        assertThat(replaced).isTrue();
+        assertThat(timingWheel.size()).isEqualTo(3);
+        assertThat(timingWheel.cancel(3L)).isEqualTo("room3-new");
+    }
+}
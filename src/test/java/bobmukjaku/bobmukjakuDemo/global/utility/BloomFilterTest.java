@@ -0,0 +1,47 @@
+package bobmukjaku.bobmukjakuDemo.global.utility;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BloomFilterTest {
+
+    @Test
+    public void 넣은_해시는_항상_있다고_응답() {
+        // given
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+
+        // when
+        for (int i = 0; i < 1_000; i++) filter.put(HashUtil.sha256("token" + i));
+
+        // then
+        for (int i = 0; i < 1_000; i++) assertThat(filter.mightContain(HashUtil.sha256("token" + i))).isTrue();
+    }
+
+    @Test
+    public void 오탐률은_설정값_근처() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) filter.put(HashUtil.sha256("token" + i));
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(HashUtil.sha256("other" + i))) falsePositives++;
+        }
+
+        // then
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    public void 짧은_해시는_거부() {
+        // given
+        BloomFilter filter = new BloomFilter(10, 0.01);
+
+        // when, then
+        assertThatThrownBy(() -> filter.put(new byte[8])).isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
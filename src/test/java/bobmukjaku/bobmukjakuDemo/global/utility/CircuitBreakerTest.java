@@ -0,0 +1,72 @@
+package bobmukjaku.bobmukjakuDemo.global.utility;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker("test", meterRegistry,
+            4, 4, 0.5, 10, TimeUnit.SECONDS, 2, now::get);
+
+    private void call(boolean success) {
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        if (success) circuitBreaker.onSuccess();
+        else circuitBreaker.onFailure();
+    }
+
+    @Test
+    public void 실패율이_임계치를_넘으면_열리고_호출_거부() {
+        // when
+        call(true);
+        call(false);
+        call(true);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED); // 최소 호출 수 전
+        call(false);
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+        assertThat(meterRegistry.counter("test.circuit.rejected").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("test.circuit.state").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    public void 열린_시간이_지나면_시험_호출_후_닫힘() {
+        // given
+        for (int i = 0; i < 4; i++) call(false);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        // when
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.tryAcquire()).isFalse(); // 시험 호출은 2건까지
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(meterRegistry.counter("test.circuit.transition", "state", "half_open").count()).isEqualTo(1);
+    }
+
+    @Test
+    public void 시험_호출이_실패하면_다시_열림() {
+        // given
+        for (int i = 0; i < 4; i++) call(false);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        // when
+        call(false);
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(meterRegistry.counter("test.circuit.transition", "state", "open").count()).isEqualTo(2);
+    }
+
+}
@@ -0,0 +1,62 @@
+package bobmukjaku.bobmukjakuDemo.global.utility;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LruCacheTest {
+
+    @Test
+    public void 가득_차면_가장_오래_사용하지_않은_항목_제거() {
+        // given
+        AtomicInteger evictions = new AtomicInteger();
+        LruCache<String, Integer> cache = new LruCache<>(2, evictions::incrementAndGet);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+
+        // when
+        cache.put("c", 3);
+
+        // then
+        assertThat(cache.get("a")).isEqualTo(1);
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isEqualTo(3);
+        assertThat(evictions.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void 만료된_항목은_조회_시_제거() {
+        // given
+        LruCache<String, Integer> cache = new LruCache<>(10);
+        cache.put("expired", 1, System.currentTimeMillis() - 1);
+        cache.put("valid", 2, System.currentTimeMillis() + 60_000);
+
+        // when
+        Integer expired = cache.get("expired");
+
+        // then
+        assertThat(expired).isNull();
+        assertThat(cache.get("valid")).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void 값_조건으로_제거() {
+        // given
+        LruCache<String, Integer> cache = new LruCache<>(10);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 1);
+
+        // when
+        cache.removeIf(value -> value == 1);
+
+        // then
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("b")).isEqualTo(2);
+    }
+
+}